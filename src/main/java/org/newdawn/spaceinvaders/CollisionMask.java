@@ -0,0 +1,114 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 스프라이트의 불투명 픽셀을 비트로 묶어둔 충돌 마스크.
+ * - 행마다 long 단어 배열 (x번째 픽셀 = (x / 64)번째 단어의 (x % 64)번째 비트)
+ * - SpriteStore가 로드할 때 알파 채널에서 한 번만 만든다
+ * - 겹침 판정은 겹치는 행마다 long 몇 개를 AND 하는 것으로 끝난다 (getRGB 호출 없음)
+ */
+public final class CollisionMask {
+
+    /** 이 값 이상의 알파를 불투명(충돌)으로 본다 */
+    private static final int ALPHA_THRESHOLD = 128;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    /** 180도 회전본 (필요할 때 한 번 만듦) */
+    private volatile CollisionMask rotated;
+
+    private CollisionMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /** 이미지의 알파 채널에서 마스크 생성 */
+    public static CollisionMask fromImage(BufferedImage image) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        CollisionMask m = new CollisionMask(w, h);
+        int[] row = new int[w];
+        for (int y = 0; y < h; y++) {
+            image.getRGB(0, y, w, 1, row, 0, w);
+            for (int x = 0; x < w; x++) {
+                if ((row[x] >>> 24) >= ALPHA_THRESHOLD) {
+                    m.set(x, y);
+                }
+            }
+        }
+        return m;
+    }
+
+    public int getWidth()  { return width; }
+    public int getHeight() { return height; }
+
+    public boolean isSet(int x, int y) {
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << (x & 63))) != 0;
+    }
+
+    private void set(int x, int y) {
+        bits[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+    }
+
+    /** 중심 기준 180도 회전한 마스크 (AlienShotEntity처럼 뒤집어 그리는 스프라이트용) */
+    public CollisionMask rotated180() {
+        CollisionMask r = rotated;
+        if (r == null) {
+            r = new CollisionMask(width, height);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (isSet(x, y)) {
+                        r.set(width - 1 - x, height - 1 - y);
+                    }
+                }
+            }
+            rotated = r;
+        }
+        return r;
+    }
+
+    /** row행의 col열부터 64픽셀 (정렬 안 된 위치는 두 단어를 이어 붙임, 폭 밖은 0) */
+    private long bitsAt(int row, int col) {
+        int base = row * wordsPerRow;
+        int word = col >>> 6;
+        int shift = col & 63;
+        long v = bits[base + word] >>> shift;
+        if (shift != 0 && word + 1 < wordsPerRow) {
+            v |= bits[base + word + 1] << (64 - shift);
+        }
+        return v;
+    }
+
+    /**
+     * (ax, ay)에 놓인 a와 (bx, by)에 놓인 b의 불투명 픽셀이 하나라도 겹치는지.
+     * 마스크가 null이면 aw x ah (bw x bh) 사각형 전체를 불투명으로 본다.
+     */
+    public static boolean overlaps(CollisionMask a, int ax, int ay, int aw, int ah,
+                                   CollisionMask b, int bx, int by, int bw, int bh) {
+        int left   = Math.max(ax, bx);
+        int right  = Math.min(ax + aw, bx + bw);   // 미포함
+        int top    = Math.max(ay, by);
+        int bottom = Math.min(ay + ah, by + bh);   // 미포함
+        if (left >= right || top >= bottom) return false;
+        if (a == null && b == null) return true;
+
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x += 64) {
+                int n = Math.min(64, right - x);
+                long span = (n == 64) ? -1L : (1L << n) - 1;
+                long wa = (a == null) ? -1L : a.bitsAt(y - ay, x - ax);
+                long wb = (b == null) ? -1L : b.bitsAt(y - by, x - bx);
+                if ((wa & wb & span) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,46 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 수명이 짧은 엔티티(총알/폭탄/레이저)를 재사용하는 풀.
+ * - acquire()는 남는 인스턴스가 있으면 꺼내고, 없을 때만 factory로 새로 만든다
+ *   (꺼낸 쪽이 reset…()으로 상태를 다시 채운다)
+ * - release()는 World가 제거 목록을 비울 때 부른다. 이미 풀에 있는 인스턴스는 무시
+ *   (풀 종류에 맞는 타입만 받으므로 다른 종류를 잘못 넣으면 넣는 자리에서 드러난다)
+ */
+public final class EntityPool<T extends Entity> {
+
+    private final Supplier<T> factory;
+    private final ArrayList<T> free = new ArrayList<>();
+    private int created = 0;
+
+    public EntityPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    public T acquire() {
+        if (!free.isEmpty()) {
+            T e = free.remove(free.size() - 1);
+            e.setInPool(false);
+            return e;
+        }
+        created++;
+        return factory.get();
+    }
+
+    public void release(T e) {
+        if (e.isInPool()) return;     // 중복 반환 방지
+        e.setInPool(true);
+        free.add(e);
+    }
+
+    /** 지금 풀에 남아 있는 인스턴스 수 */
+    public int getFreeCount() { return free.size(); }
+
+    /** 지금까지 새로 만든 인스턴스 수 (재사용이 잘 되면 거의 늘지 않는다) */
+    public int getCreatedCount() { return created; }
+}
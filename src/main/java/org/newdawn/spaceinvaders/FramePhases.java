@@ -0,0 +1,60 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 틱을 이루는 단계들을 등록 순서대로 돌리며 단계별 소요 시간(마지막 틱/누적)을 잰다.
+ * - 단계는 모두 호출 스레드에서 차례로 돈다 (등록 순서 = 실행 순서)
+ * - 단계에서 난 예외는 그대로 던지고, 뒤 단계는 돌지 않는다
+ * run()은 한 번에 한 스레드에서만 부른다.
+ */
+public final class FramePhases {
+
+    private static final class Phase {
+        final String name;
+        final Runnable body;
+        long lastNanos;
+        long totalNanos;
+
+        Phase(String name, Runnable body) {
+            this.name = name;
+            this.body = body;
+        }
+    }
+
+    private final List<Phase> phases = new ArrayList<>();
+    private long runs = 0;
+
+    /**
+     * 단계 등록.
+     * @return 단계 번호
+     */
+    public int add(String name, Runnable body) {
+        phases.add(new Phase(name, body));
+        return phases.size() - 1;
+    }
+
+    /** 한 틱 실행 */
+    public void run() {
+        for (int i = 0; i < phases.size(); i++) {
+            Phase p = phases.get(i);
+            long start = System.nanoTime();
+            p.body.run();
+            p.lastNanos = System.nanoTime() - start;
+            p.totalNanos += p.lastNanos;
+        }
+        runs++;
+    }
+
+    // ===== 단계별 시간 =====
+
+    public int getPhaseCount() { return phases.size(); }
+    public String getPhaseName(int i) { return phases.get(i).name; }
+    /** 마지막 run()에서 걸린 시간(ns) */
+    public long getLastNanos(int i) { return phases.get(i).lastNanos; }
+    /** 지금까지 누적 시간(ns) */
+    public long getTotalNanos(int i) { return phases.get(i).totalNanos; }
+    /** run() 횟수 */
+    public long getRunCount() { return runs; }
+}
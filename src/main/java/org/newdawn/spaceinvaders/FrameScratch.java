@@ -0,0 +1,69 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 한 틱 동안만 쓰는 임시 버퍼 모음 (질의 결과 목록, 충돌 경계 배열 등).
+ * - entities()/ints()는 앞서 꺼낸 버퍼와 겹치지 않는 새 버퍼를 돌려준다 → 중첩 질의도 안전
+ * - World가 틱 시작(moveAll/handleCollisions)과 틱 끝(flushRemovals)에서 reset()으로 한꺼번에 돌려받고,
+ *   다음 틱에 같은 순서로 다시 내준다
+ *   → 버퍼가 한 번 커진 뒤로는 틱마다 새로 할당하지 않는다
+ * - 꺼낸 버퍼는 reset() 뒤에 쓰면 안 된다 (필드에 오래 들고 있지 말 것)
+ *
+ * 한 스레드(시뮬레이션)에서만 꺼낸다. 꺼낸 배열을 작업 스레드가 읽는 것은 괜찮다.
+ */
+public final class FrameScratch {
+
+    private final List<List<Entity>> entityLists = new ArrayList<>();
+    private int entityListsUsed = 0;
+
+    private int[][] intBuffers = new int[4][];
+    private int intBuffersUsed = 0;
+
+    /** 빈 엔티티 목록 (이번 틱 동안만 유효) */
+    public List<Entity> entities() {
+        if (entityListsUsed == entityLists.size()) {
+            entityLists.add(new ArrayList<>());
+        }
+        return entityLists.get(entityListsUsed++);
+    }
+
+    /** 길이 minLength 이상인 int 배열 (이번 틱 동안만 유효, 내용은 이전 값이 남아 있을 수 있음) */
+    public int[] ints(int minLength) {
+        if (intBuffersUsed == intBuffers.length) {
+            int[][] grown = new int[intBuffers.length * 2][];
+            System.arraycopy(intBuffers, 0, grown, 0, intBuffers.length);
+            intBuffers = grown;
+        }
+        int[] buf = intBuffers[intBuffersUsed];
+        if (buf == null || buf.length < minLength) {
+            int n = (buf == null) ? Math.max(64, minLength) : Math.max(minLength, buf.length * 2);
+            buf = new int[n];
+            intBuffers[intBuffersUsed] = buf;
+        }
+        intBuffersUsed++;
+        return buf;
+    }
+
+    /** 이번 틱에 꺼낸 버퍼를 모두 돌려받는다 (엔티티 목록은 비워서 제거된 엔티티를 붙잡지 않게) */
+    public void reset() {
+        for (int i = 0; i < entityListsUsed; i++) {
+            entityLists.get(i).clear();
+        }
+        entityListsUsed = 0;
+        intBuffersUsed = 0;
+    }
+
+    /** 지금까지 만든 엔티티 목록 수 (한 틱에 동시에 쓴 최대 수) */
+    public int getEntityListCount() { return entityLists.size(); }
+
+    /** 지금까지 만든 int 버퍼 수 */
+    public int getIntBufferCount() {
+        int n = 0;
+        while (n < intBuffers.length && intBuffers[n] != null) n++;
+        return n;
+    }
+}
@@ -29,7 +29,8 @@ import org.newdawn.spaceinvaders.screen.Screen;
 
 public class Game extends Canvas {
 
-    private Screen currentScreen;
+    /** 시뮬레이션/렌더/입력(EDT) 스레드가 함께 읽으므로 volatile */
+    private volatile Screen currentScreen;
 
     private String toastText = null;
     private long   toastUntil = 0;
@@ -48,10 +49,31 @@ public class Game extends Canvas {
 	public static final int VIRTUAL_HEIGHT = 600;
 
 	private BufferStrategy strategy;
-	private boolean gameRunning = true;
+	private volatile boolean gameRunning = true;
 
 	private long lastFpsTime;
 	private int fps;
+
+	// === 고정 틱 시뮬레이션 ===
+	/** 시뮬레이션 1틱 길이(ms). 8ms = 125Hz (정수 ms delta를 유지하기 위해 120Hz 근처로 맞춤) */
+	public static final long SIM_TICK_MS = 8;
+	/** 한 프레임에서 따라잡을 수 있는 최대 틱 수 (느린 프레임 뒤 연쇄 지연 방지) */
+	private static final int MAX_TICKS_PER_FRAME = 5;
+	private boolean fixedTimestep = true;
+	private long simAccumulator = 0;
+
+	// === 프레임 페이싱 ===
+	/** 주사율을 알 수 없을 때의 기본 목표 FPS */
+	private static final int DEFAULT_TARGET_FPS = 60;
+	private SystemTimer.FramePacer pacer;
+	private long lastMissedDeadlines = 0;
+
+	// === 파이프라인 모드 (시뮬레이션/렌더 스레드 분리) ===
+	private boolean pipelined = false;
+	/** 새 런의 World 옵션 (실행 인자) */
+	private boolean parallelCollisions = false;
+	private boolean parallelMove = false;
+	private final SnapshotBuffers snapshots = new SnapshotBuffers();
 	private String windowTitle = "Space Invaders 102";
 	private JFrame container;
 
@@ -145,6 +167,8 @@ public class Game extends Canvas {
 		createBufferStrategy(2);
 		strategy = getBufferStrategy();
 
+		pacer = new SystemTimer.FramePacer(detectRefreshRate());
+
 		ship1Sprite    = SpriteStore.get().getSprite("sprites/ship.gif");
 		ship2Sprite    = SpriteStore.get().getSprite("sprites/ship2.png");
 		ship3Sprite    = SpriteStore.get().getSprite("sprites/ship3.png");
@@ -255,6 +279,11 @@ public class Game extends Canvas {
     }
 
     public void gameLoop() {
+        if (pipelined) {
+            runPipelined();
+            return;
+        }
+
         long lastLoopTime = SystemTimer.getTime();
         while (gameRunning) {
             long now   = SystemTimer.getTime();
@@ -263,36 +292,214 @@ public class Game extends Canvas {
 
             updateFps(delta);
 
-            Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
-            prepareBackBuffer(g);
+            double alpha = stepSimulation(currentScreen, delta);   // ← 로직
+            renderFrame(alpha);
 
-            double s = currentScale();
-            int ox = offsetXForScale(s);
-            int oy = offsetYForScale(s);
-            Graphics2D vg = createVirtualGraphics(g, s, ox, oy);
+            // 남은 프레임 예산만큼만 대기 (늦은 프레임은 바로 다음 프레임으로)
+            pacer.sync();
+        }
+    }
 
-            if (currentScreen != null) {
-                currentScreen.update(delta);   // ← 로직
-                currentScreen.render(vg);
+    /**
+     * 파이프라인 모드 on/off (gameLoop() 시작 전에 설정).
+     * 켜면 시뮬레이션 스레드가 틱마다 RenderSnapshot을 만들고,
+     * 이 스레드는 가장 최근 스냅샷만 BufferStrategy로 그린다.
+     */
+    public void setPipelined(boolean on) {
+        this.pipelined = on;
+    }
+
+    /** 이후 시작하는 런의 World에서 병렬 narrow phase를 켤지 (실행 인자 --parallel-collisions) */
+    public void setParallelCollisions(boolean on) {
+        this.parallelCollisions = on;
+    }
+
+    /** 이후 시작하는 런의 World에서 병렬 이동을 켤지 (실행 인자 --parallel-move) */
+    public void setParallelMove(boolean on) {
+        this.parallelMove = on;
+    }
+
+    /** 시뮬레이션 스레드를 띄우고 현재 스레드는 렌더 루프를 돈다 */
+    private void runPipelined() {
+        Thread sim = new Thread(this::simulationLoop, "simulation");
+        sim.setDaemon(true);
+        sim.start();
+
+        long lastLoopTime = SystemTimer.getTime();
+        while (gameRunning) {
+            long now   = SystemTimer.getTime();
+            long delta = now - lastLoopTime;
+            lastLoopTime = now;
+
+            updateFps(delta);
+            renderSnapshotFrame(snapshots.acquireLatest());
+
+            pacer.sync();
+        }
+    }
+
+    /**
+     * 시뮬레이션 스레드: 스냅샷을 쓰는 화면만 고정 틱으로 돌리고 틱마다 스냅샷을 공개.
+     * 스냅샷을 안 쓰는 화면(메뉴 등)은 렌더 스레드 혼자 다루므로 여기서는 건드리지 않고,
+     * 이전 런의 스냅샷이 남지 않게 빈 스냅샷만 한 번 공개한다.
+     */
+    private void simulationLoop() {
+        SystemTimer.FramePacer tickPacer =
+                new SystemTimer.FramePacer((int) (1000 / SIM_TICK_MS));
+        long lastLoopTime = SystemTimer.getTime();
+        boolean publishedEmpty = false;
+        while (gameRunning) {
+            long now   = SystemTimer.getTime();
+            long delta = now - lastLoopTime;
+            lastLoopTime = now;
+
+            Screen screen = currentScreen;
+            if (screen != null && screen.usesSnapshots()) {
+                double alpha = stepSimulation(screen, delta);
+                publishSnapshot(screen, alpha);
+                publishedEmpty = false;
+            } else if (!publishedEmpty) {
+                publishSnapshot(null, 1.0);
+                publishedEmpty = true;
             }
 
-            drawToast(vg);
+            tickPacer.sync();
+        }
+    }
+
+    /** screen이 null이거나 도중에 화면이 바뀌었으면 빈 스냅샷 */
+    private void publishSnapshot(Screen screen, double frameAlpha) {
+        RenderSnapshot out = snapshots.writeBuffer();
+        if (screen == null || screen != currentScreen || !screen.writeSnapshot(out)) {
+            out.clear();
+            out.alpha = 1.0;
+            out.alphaPerTick = 0.0;
+        } else {
+            out.alpha = screen.renderAlpha(frameAlpha);
+            out.alphaPerTick = screen.renderAlphaRate();
+        }
+        out.publishedAtNanos = SystemTimer.getNanoTime();
+        snapshots.publish();
+    }
+
+    /**
+     * 한 프레임을 그린다. 스냅샷을 쓰는 화면은 스냅샷만 읽고(비었으면 검은 화면),
+     * 나머지 화면은 이 스레드에서만 다뤄지므로 render()로 직접 그린다.
+     */
+    private void renderSnapshotFrame(RenderSnapshot snap) {
+        Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+        prepareBackBuffer(g);
+
+        double s = currentScale();
+        int ox = offsetXForScale(s);
+        int oy = offsetYForScale(s);
+        Graphics2D vg = createVirtualGraphics(g, s, ox, oy);
+
+        Screen screen = currentScreen;
+        if (screen != null && screen.usesSnapshots()) {
+            if (snap.hasEntities) {
+                // 공개 시점 비율에서, 그 뒤 흐른 시간만큼 다음 틱 쪽으로 (멈춤이면 그대로)
+                double elapsedTicks = (SystemTimer.getNanoTime() - snap.publishedAtNanos)
+                        / (SIM_TICK_MS * 1_000_000.0);
+                double alpha = snap.alpha + elapsedTicks * snap.alphaPerTick;
+                alpha = Math.max(0.0, Math.min(1.0, alpha));
+                snap.drawEntities(vg, alpha);
+                snap.drawHud(vg, VIRTUAL_WIDTH, VIRTUAL_HEIGHT, snap.clockMs);
+            }
+        } else if (screen != null) {
+            screen.render(vg);
+        }
+
+        drawToast(vg);
+
+        vg.dispose();
+        g.dispose();
+        strategy.show();
+    }
+
+    /** 목표 FPS 설정 (0 이하 = 무제한) */
+    public void setTargetFps(int fps) {
+        pacer.setTargetFps(fps);
+    }
+
+    /** 모니터 주사율을 기본 목표 FPS로 사용 (알 수 없으면 60) */
+    private int detectRefreshRate() {
+        int hz = gfxDev.getDisplayMode().getRefreshRate();
+        return (hz == java.awt.DisplayMode.REFRESH_RATE_UNKNOWN) ? DEFAULT_TARGET_FPS : hz;
+    }
+
+    /**
+     * 경과 시간만큼 시뮬레이션을 진행한다.
+     * - 고정 틱 모드: 누적기에 delta를 쌓고 SIM_TICK_MS 단위로만 update() 호출
+     *   (한 프레임에 최대 MAX_TICKS_PER_FRAME 틱, 초과분은 버림)
+     * - 가변 모드: 기존처럼 delta를 그대로 넘김
+     * 틱 도중 화면이 바뀌면(런 종료 등) 남은 틱은 새 화면에 넘기지 않는다.
+     * @return 렌더 보간 비율(0~1) — 직전 틱과 현재 틱 사이 어디쯤을 그릴지
+     */
+    private double stepSimulation(Screen screen, long delta) {
+        if (!fixedTimestep) {
+            if (screen != null) {
+                screen.update(delta);
+            }
+            return 1.0;
+        }
+
+        simAccumulator += delta;
+        int ticks = 0;
+        while (simAccumulator >= SIM_TICK_MS && ticks < MAX_TICKS_PER_FRAME) {
+            if (screen != null && screen == currentScreen) {
+                screen.update(SIM_TICK_MS);
+            }
+            simAccumulator -= SIM_TICK_MS;
+            ticks++;
+        }
+
+        // 따라잡기 한도를 넘은 밀린 시간은 버린다 (GC/저장 등으로 멈췄던 경우)
+        if (simAccumulator >= SIM_TICK_MS) {
+            simAccumulator %= SIM_TICK_MS;
+        }
+        return simAccumulator / (double) SIM_TICK_MS;
+    }
+
+    /** 백버퍼에 현재 화면 + 토스트를 그리고 화면에 표시 */
+    private void renderFrame(double alpha) {
+        Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+        prepareBackBuffer(g);
 
-            vg.dispose();
-            g.dispose();
-            strategy.show();
+        double s = currentScale();
+        int ox = offsetXForScale(s);
+        int oy = offsetYForScale(s);
+        Graphics2D vg = createVirtualGraphics(g, s, ox, oy);
 
-            SystemTimer.sleep(10);
+        Screen screen = currentScreen;
+        if (screen != null) {
+            // 화면 자체 시계(일시정지/배속) 기준 비율로 바꿔 그린다
+            screen.render(vg, screen.renderAlpha(alpha));
         }
+
+        drawToast(vg);
+
+        vg.dispose();
+        g.dispose();
+        strategy.show();
     }
 
-    /** FPS 계산 및 윈도우 타이틀 갱신 */
+    /** 고정 틱(누적기) 모드 on/off — 끄면 프레임 delta를 그대로 update()에 넘긴다 */
+    public void setFixedTimestep(boolean on) {
+        this.fixedTimestep = on;
+        this.simAccumulator = 0;
+    }
+
+    /** FPS 계산 및 윈도우 타이틀 갱신 (직전 1초간 놓친 프레임 데드라인 수 포함) */
     private void updateFps(long delta) {
         lastFpsTime += delta;
         fps++;
 
         if (lastFpsTime >= 1000) {
-            container.setTitle(windowTitle + " (FPS: " + fps + ")");
+            long missed = pacer.getMissedDeadlines();
+            container.setTitle(windowTitle + " (FPS: " + fps
+                    + ", missed: " + (missed - lastMissedDeadlines) + ")");
+            lastMissedDeadlines = missed;
             lastFpsTime = 0;
             fps = 0;
         }
@@ -355,7 +562,10 @@ public class Game extends Canvas {
         this.selectedShipIndex = shipIndex;
         saveData.lastSelectedShipIndex = shipIndex;
         saveNow();
-        this.currentScreen = new PlayScreen(this, level, shipIndex);
+        PlayScreen play = new PlayScreen(this, level, shipIndex);
+        play.getWorld().setParallelNarrowPhase(parallelCollisions);
+        play.getWorld().setParallelMove(parallelMove);
+        this.currentScreen = play;
     }
 
     public void tryUpgradeSpeedFromScreen()   { tryUpgrade(() -> lvSpeed++ , lvSpeed); }
@@ -554,5 +764,16 @@ public class Game extends Canvas {
     }
     public int getLvBomb()  { return lvBomb; }
 
-    public static void main(String[] args) { Game g = new Game(); g.gameLoop(); }
+    public static void main(String[] args) {
+        Game g = new Game();
+        for (String a : args) {
+            if ("--pipelined".equals(a)) g.setPipelined(true);
+            if ("--parallel-collisions".equals(a)) g.setParallelCollisions(true);
+            if ("--parallel-move".equals(a)) g.setParallelMove(true);
+            if (a.startsWith("--time-scale=")) {
+                PlayScreen.setTimeScaleDefault(Double.parseDouble(a.substring("--time-scale=".length())));
+            }
+        }
+        g.gameLoop();
+    }
 }
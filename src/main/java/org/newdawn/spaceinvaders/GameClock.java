@@ -0,0 +1,100 @@
+package org.newdawn.spaceinvaders;
+
+/**
+ * 게임 시간. PlayScreen이 하나 가지고, World/엔티티/스폰/쿨다운/토스트가 모두 이 시각을 읽는다.
+ * - 실제 경과 시간은 feed()로 들어와 배속(timeScale)을 곱한 만큼 "밀린 시간"으로 쌓이고,
+ *   시뮬레이션은 take()로 꼭 한 틱씩 꺼내 쓰며 그만큼 now()가 진행된다
+ *   → 배속을 바꿔도 틱 크기는 그대로(도는 틱 수만 다름)라 충돌/수명 판정이 달라지지 않는다
+ *   → 한 틱이 안 되는 나머지는 다음 feed()까지 밀린 채로 남는다
+ * - 일시정지 중에는 feed()가 무시되고, step()으로 넣은 시간만 진행된다 (한 틱씩 넘겨 보기)
+ * - 실제 시간과 무관하므로 헤드리스/벤치마크/리플레이는 feed()만 원하는 만큼 불러 빨리 돌린다
+ * - 시한이 있는 게임 이벤트(수명, 스폰 주기, 보스 사격, 무적, 토스트)는 getTimers()에 예약하고,
+ *   시뮬레이션이 틱마다 runTimers()로 지금 시각까지 만기된 것만 실행한다
+ *
+ * 한 스레드(시뮬레이션)에서만 진행시킨다. now()는 다른 스레드에서 읽어도 되고,
+ * 일시정지/배속은 입력 스레드에서 바꿔도 된다.
+ */
+public final class GameClock {
+
+    /** 한 번에 밀릴 수 있는 최대 시간(ms) — 넘는 만큼은 버린다 (멈췄다 돌아온 경우 폭주 방지) */
+    public static final long MAX_BACKLOG_MS = 1000;
+
+    private volatile long nowMs;
+    private double owedMs = 0;
+    private volatile double timeScale = 1.0;
+    private volatile boolean paused = false;
+    private final TimerWheel timers;
+
+    public GameClock() {
+        this(0);
+    }
+
+    public GameClock(long startMs) {
+        this.nowMs = startMs;
+        this.timers = new TimerWheel(startMs);
+    }
+
+    /** 지금 게임 시각(ms) */
+    public long now() {
+        return nowMs;
+    }
+
+    /** 실제로 흐른 시간(ms)을 넣는다 (배속 적용, 일시정지 중에는 무시) */
+    public void feed(long realDeltaMs) {
+        if (paused || realDeltaMs <= 0) return;
+        owedMs = Math.min(MAX_BACKLOG_MS, owedMs + realDeltaMs * timeScale);
+    }
+
+    /** 일시정지와 무관하게 ms만큼 진행할 시간을 넣는다 (수동 한 틱 넘기기) */
+    public void step(long ms) {
+        if (ms <= 0) return;
+        owedMs = Math.min(MAX_BACKLOG_MS, owedMs + ms);
+    }
+
+    /**
+     * 밀린 시간이 한 틱(tickMs) 이상이면 한 틱을 꺼내고 그만큼 시각을 진행한다.
+     * 한 틱보다 적게 밀렸으면 아무것도 꺼내지 않는다 (틱 길이는 항상 tickMs).
+     * @return 이번에 진행한 ms (tickMs 또는 0이면 돌릴 틱 없음)
+     */
+    public long take(long tickMs) {
+        if (tickMs <= 0 || owedMs < tickMs) return 0;
+        owedMs -= tickMs;
+        nowMs += tickMs;
+        return tickMs;
+    }
+
+    /** 아직 틱으로 꺼내지 않은 밀린 시간(ms, 배속 적용 후) — 렌더 보간용 */
+    public double getOwedMs() {
+        return owedMs;
+    }
+
+    /** 밀린 시간 없이 바로 ms만큼 진행 (테스트/도구용) */
+    public void advance(long ms) {
+        if (ms > 0) {
+            nowMs += ms;
+        }
+    }
+
+    /** 이 시계 기준으로 도는 타이머 휠 */
+    public TimerWheel getTimers() {
+        return timers;
+    }
+
+    /** 지금 시각까지 만기된 타이머 실행 (시뮬레이션 스레드에서) */
+    public void runTimers() {
+        timers.advanceTo(nowMs);
+    }
+
+    public boolean isPaused() { return paused; }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public double getTimeScale() { return timeScale; }
+
+    /** 배속 (1 = 실시간, 0.25 = 슬로모션, 50 = 빨리 감기). 0 이하는 일시정지와 같다 */
+    public void setTimeScale(double scale) {
+        this.timeScale = Math.max(0.0, scale);
+    }
+}
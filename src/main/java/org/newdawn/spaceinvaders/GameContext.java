@@ -1,6 +1,5 @@
 package org.newdawn.spaceinvaders;
 
-import org.newdawn.spaceinvaders.entity.BossEntity;
 import org.newdawn.spaceinvaders.entity.Entity;
 
 import java.util.Random;
@@ -16,17 +15,19 @@ public interface GameContext {
     void spawnBlackHoleAroundPlayer(Random rng);
 
     void addEntity(Entity e);
+    /** 적 총알 하나 발사 (풀에서 꺼내 씀). horizontalSpeed: 가로 속도(px/s) */
+    void spawnAlienShot(int x, int y, double horizontalSpeed);
     void removeEntity(Entity e);
 
-    void onAlienKilledAt(int cx, int cy);
-    void onBossDefeated(BossEntity boss);
-    void onPlayerHit();
+    /**
+     * 처치/피격/줍기/보스 처치 이벤트 버스. 충돌·로직 중에는 여기에 발행만 하고,
+     * 점수/드랍/목숨/보유 아이템 처리는 물리 단계 뒤에 한꺼번에 돈다.
+     */
+    GameEvents getEvents();
+
     void activateBombAt(int cx, int cy);
     boolean isPlayerInvincible();
 
-    boolean collectBomb();
-    boolean collectLaser();
-
     int getShipCenterX();
     int getVirtualWidth();
     int getVirtualHeight();
@@ -35,4 +36,7 @@ public interface GameContext {
     void requestLogicUpdate();
 
     void tickLaserAt(int cx, int halfWidth);
+
+    /** 게임 시각 (쿨다운/수명/타이머는 모두 이 시계로 잰다) */
+    GameClock getClock();
 }
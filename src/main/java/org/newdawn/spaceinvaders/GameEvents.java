@@ -0,0 +1,142 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * 게임 이벤트 버스. 충돌/로직 단계에서 엔티티가 작은 기본형 레코드(종류, x, y, ref)를 링 버퍼에 쌓기만 하고,
+ * 점수/드랍/도전과제/피격/줍기 처리는 물리 단계가 끝난 뒤 dispatch()에서 구독자별로 한꺼번에 돈다.
+ * - 발행은 배열 네 칸 쓰기뿐이라 충돌 루프가 구독자 수와 무관하게 가볍다
+ * - 구독자는 관심 있는 종류 비트(bit(KILL) | ...)로 등록하고, 이벤트가 발행된 순서대로 받는다
+ *   (구독자 하나가 자기 몫을 모두 처리한 뒤 다음 구독자로 — 등록 순서)
+ * - 처리 중에 새로 발행된 이벤트는 같은 dispatch()의 다음 바퀴에서 처리된다
+ * - 버퍼가 차면 두 배로 늘린다 (게임 이벤트는 버리지 않음)
+ *
+ * 한 스레드(시뮬레이션)에서만 쓴다. 병렬 이동 중에는 발행하지 않는다.
+ */
+public final class GameEvents {
+
+    /** 외계인 처치. x, y = 처치 위치 (-1이면 위치 없음: 폭탄 광역 처치 등 드랍 없음) */
+    public static final int KILL   = 0;
+    /** 배 피격. x = 알린 쪽 엔티티 종류 (Entity.KIND_*) */
+    public static final int HIT    = 1;
+    /** 아이템 줍기. x = 아이템 종류 (Entity.KIND_BOMB / KIND_LASER), ref = 아이템 핸들 */
+    public static final int PICKUP = 2;
+    /** 보스 처치. ref = 보스 핸들 */
+    public static final int BOSS_DEFEATED = 3;
+
+    public static final int TYPE_COUNT = 4;
+
+    /** 구독자 */
+    @FunctionalInterface
+    public interface Consumer {
+        void onEvent(int type, int x, int y, long ref);
+    }
+
+    /** 구독 마스크용 비트 */
+    public static int bit(int type) {
+        return 1 << type;
+    }
+
+    private int[]  types = new int[64];
+    private int[]  xs    = new int[64];
+    private int[]  ys    = new int[64];
+    private long[] refs  = new long[64];
+    private int head  = 0;
+    private int count = 0;
+
+    private Consumer[] consumers = new Consumer[0];
+    private int[]      masks     = new int[0];
+
+    /** 종류별 누적 발행 수 (통계) */
+    private final long[] published = new long[TYPE_COUNT];
+
+    // ===== 발행 =====
+
+    public void publish(int type, int x, int y, long ref) {
+        if (count == types.length) {
+            grow();
+        }
+        int i = (head + count) & (types.length - 1);
+        types[i] = type;
+        xs[i]    = x;
+        ys[i]    = y;
+        refs[i]  = ref;
+        count++;
+        published[type]++;
+    }
+
+    public void kill(int x, int y)                { publish(KILL, x, y, 0L); }
+    public void hit(int sourceKind)               { publish(HIT, sourceKind, 0, 0L); }
+    public void pickup(int itemKind, long handle) { publish(PICKUP, itemKind, 0, handle); }
+    public void bossDefeated(long handle)         { publish(BOSS_DEFEATED, 0, 0, handle); }
+
+    // ===== 구독/처리 =====
+
+    /** typeMask(bit(...)의 합)에 해당하는 이벤트를 받는다. 등록 순서가 처리 순서 */
+    public void subscribe(int typeMask, Consumer c) {
+        int n = consumers.length;
+        consumers = Arrays.copyOf(consumers, n + 1);
+        masks     = Arrays.copyOf(masks, n + 1);
+        consumers[n] = c;
+        masks[n]     = typeMask;
+    }
+
+    /**
+     * 쌓인 이벤트를 구독자별로 처리하고 비운다.
+     * @return 처리한 이벤트 수
+     */
+    public int dispatch() {
+        int total = 0;
+        while (count > 0) {
+            int n = count;
+            for (int c = 0; c < consumers.length; c++) {
+                Consumer consumer = consumers[c];
+                int mask = masks[c];
+                for (int k = 0; k < n; k++) {
+                    // 처리 중 발행으로 버퍼가 늘어나도 grow()가 head부터 다시 깔아 두므로 위치 계산은 그대로
+                    int i = (head + k) & (types.length - 1);
+                    int type = types[i];
+                    if ((mask & (1 << type)) != 0) {
+                        consumer.onEvent(type, xs[i], ys[i], refs[i]);
+                    }
+                }
+            }
+            head = (head + n) & (types.length - 1);
+            count -= n;
+            total += n;
+        }
+        return total;
+    }
+
+    /** 처리하지 않고 버린다 (런 재시작 등) */
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    /** 아직 처리되지 않은 이벤트 수 */
+    public int size() { return count; }
+
+    /** 지금까지 발행된 type 이벤트 수 */
+    public long getPublishedCount(int type) { return published[type]; }
+
+    private void grow() {
+        int cap = types.length;
+        int[]  t = new int[cap * 2];
+        int[]  x = new int[cap * 2];
+        int[]  y = new int[cap * 2];
+        long[] r = new long[cap * 2];
+        for (int k = 0; k < count; k++) {
+            int i = (head + k) & (cap - 1);
+            t[k] = types[i];
+            x[k] = xs[i];
+            y[k] = ys[i];
+            r[k] = refs[i];
+        }
+        types = t;
+        xs    = x;
+        ys    = y;
+        refs  = r;
+        head  = 0;
+    }
+}
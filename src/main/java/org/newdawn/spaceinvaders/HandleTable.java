@@ -0,0 +1,64 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 엔티티 세대 핸들 표.
+ * - 핸들 = (세대 << 32) | 번호. 번호는 재사용되지만 반환될 때마다 세대가 올라가므로,
+ *   풀에서 다시 꺼낸 인스턴스를 옛 핸들로 가리키면 resolve()가 null을 준다
+ * - 세대는 1부터 시작해서 핸들이 Entity.NO_HANDLE(0)과 겹치지 않는다
+ */
+final class HandleTable {
+
+    private Entity[] owners = new Entity[64];
+    private int[] generations = new int[64];
+    private int[] freeIds = new int[64];
+    private int freeCount = 0;
+    private int nextId = 0;
+
+    static int idOf(long handle)         { return (int) handle; }
+    static int generationOf(long handle) { return (int) (handle >>> 32); }
+
+    /** 엔티티에 새 핸들을 붙인다 (이미 있으면 그대로) */
+    long allocate(Entity e) {
+        if (e.getHandle() != Entity.NO_HANDLE) return e.getHandle();
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            id = nextId++;
+            if (id == owners.length) {
+                owners = Arrays.copyOf(owners, id * 2);
+                generations = Arrays.copyOf(generations, id * 2);
+            }
+            generations[id] = 1;
+        }
+        owners[id] = e;
+        long h = ((long) generations[id] << 32) | (id & 0xffffffffL);
+        e.setHandle(h);
+        return h;
+    }
+
+    /** 엔티티의 핸들을 무효로 만들고 번호를 돌려받는다 */
+    void release(Entity e) {
+        long h = e.getHandle();
+        if (resolve(h) != e) return;
+        int id = idOf(h);
+        owners[id] = null;
+        generations[id]++;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+        e.setHandle(Entity.NO_HANDLE);
+    }
+
+    /** 핸들이 가리키는 엔티티 (이미 빠졌거나 세대가 다르면 null) */
+    Entity resolve(long handle) {
+        int id = idOf(handle);
+        if (handle == Entity.NO_HANDLE || id < 0 || id >= nextId) return null;
+        return (generations[id] == generationOf(handle)) ? owners[id] : null;
+    }
+}
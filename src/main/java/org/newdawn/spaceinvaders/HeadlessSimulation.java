@@ -0,0 +1,213 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.event.KeyEvent;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.newdawn.spaceinvaders.screen.PlayScreen;
+
+/**
+ * 창/Graphics2D 없이 PlayScreen + World + SpawnManager를 돌리는 헤드리스 시뮬레이터.
+ * - SpriteStore를 헤드리스 모드로 돌려 스프라이트 크기만 사용 (충돌 판정용)
+ * - 게임 시각은 PlayScreen의 GameClock이 update()로 받은 만큼만 진행 → sleep 없이 CPU 속도로 진행
+ * - 빌드 서버에서 밸런스/성능 회귀 확인용으로 대량의 런을 돌릴 때 사용
+ *
+ * 시계와 World 옵션(병렬 판정 등)은 런마다 따로다 — 옵션은 run()의 configure로 넘긴다.
+ */
+public final class HeadlessSimulation {
+
+    /** 자동 조종이 좌우 방향을 바꾸는 주기(ms) */
+    private static final long AUTOPILOT_SWEEP_MS = 1500;
+
+    /** 한 런의 결과 */
+    public static final class Result {
+        public final int level;
+        public final int shipIndex;
+        public final boolean finished;
+        public final boolean won;
+        public final int score;
+        public final int lives;
+        public final int kills;
+        public final long ticks;
+        public final long simulatedMs;
+        public final long seed;
+        /** 마지막 틱의 World.stateHash (같은 시드/모드면 같아야 함) */
+        public final long stateHash;
+        /** 틱 단계 이름 / 런 전체 누적 시간(ns) */
+        public final String[] phaseNames;
+        public final long[] phaseNanos;
+        /** 틱 루프 동안 시뮬레이션 스레드가 할당한 바이트 (측정 불가면 -1, 병렬 작업 스레드 몫은 빠짐) */
+        public final long allocatedBytes;
+
+        Result(int level, int shipIndex, PlayScreen screen, long ticks, long simulatedMs,
+               long allocatedBytes) {
+            this.level       = level;
+            this.shipIndex   = shipIndex;
+            this.finished    = screen.isRunOver();
+            this.won         = screen.isRunWon();
+            this.score       = screen.getScore();
+            this.lives       = screen.getLives();
+            this.kills       = screen.getTotalKills();
+            this.ticks       = ticks;
+            this.simulatedMs = simulatedMs;
+            this.seed        = screen.getSeed();
+            this.stateHash   = screen.getWorld().stateHash();
+            this.allocatedBytes = allocatedBytes;
+
+            FramePhases phases = screen.getFramePhases();
+            this.phaseNames = new String[phases.getPhaseCount()];
+            this.phaseNanos = new long[phases.getPhaseCount()];
+            for (int i = 0; i < phaseNames.length; i++) {
+                phaseNames[i] = phases.getPhaseName(i);
+                phaseNanos[i] = phases.getTotalNanos(i);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "level=" + level + " ship=" + shipIndex
+                    + " finished=" + finished + " won=" + won
+                    + " score=" + score + " lives=" + lives + " kills=" + kills
+                    + " ticks=" + ticks + " simMs=" + simulatedMs
+                    + " seed=" + seed + " hash=" + Long.toHexString(stateHash);
+        }
+    }
+
+    private HeadlessSimulation() { /* 유틸 클래스 */ }
+
+    /**
+     * 한 런을 끝날 때까지(또는 maxSimMs까지) 최대 속도로 진행.
+     * 입력은 간단한 자동 조종(계속 사격 + 좌우 왕복)으로 넣는다.
+     *
+     * @param level     레벨(1~5)
+     * @param shipIndex 기체 번호(0~2)
+     * @param maxSimMs  시뮬레이션 시간 상한(ms)
+     */
+    public static Result run(int level, int shipIndex, long maxSimMs) {
+        return run(level, shipIndex, maxSimMs, new Random().nextLong());
+    }
+
+    /**
+     * 시드를 정한 런. 자동 조종 입력과 게임 시각 진행은 늘 같으므로, 같은 시드면
+     * 같은 결과(점수/틱 수/stateHash)가 나와야 한다.
+     */
+    public static Result run(int level, int shipIndex, long maxSimMs, long seed) {
+        return run(level, shipIndex, maxSimMs, seed, null);
+    }
+
+    /** World 옵션(병렬 판정 등)을 정한 런. configure는 첫 틱 전에 한 번 불린다 (null이면 기본값) */
+    public static Result run(int level, int shipIndex, long maxSimMs, long seed, Consumer<World> configure) {
+        SpriteStore.get().setHeadless(true);
+        PlayScreen screen = PlayScreen.createHeadless(level, shipIndex, 0, seed);
+        if (configure != null) {
+            configure.accept(screen.getWorld());
+        }
+        InputState input = screen.getInput();
+        input.setKey(KeyEvent.VK_SPACE, true);
+
+        long tick = Game.SIM_TICK_MS;
+        long simMs = 0;
+        long ticks = 0;
+        long allocStart = threadAllocatedBytes();
+        while (!screen.isRunOver() && simMs < maxSimMs) {
+            boolean goLeft = (simMs / AUTOPILOT_SWEEP_MS) % 2 == 0;
+            input.setKey(KeyEvent.VK_LEFT, goLeft);
+            input.setKey(KeyEvent.VK_RIGHT, !goLeft);
+
+            screen.update(tick);
+            simMs += tick;
+            ticks++;
+        }
+        long allocEnd = threadAllocatedBytes();
+        long allocated = (allocStart < 0 || allocEnd < 0) ? -1 : allocEnd - allocStart;
+        return new Result(level, shipIndex, screen, ticks, simMs, allocated);
+    }
+
+    /** 현재 스레드가 지금까지 할당한 바이트 (HotSpot 계열 JVM에서만, 아니면 -1) */
+    private static long threadAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return -1;
+        com.sun.management.ThreadMXBean hs = (com.sun.management.ThreadMXBean) bean;
+        if (!hs.isThreadAllocatedMemorySupported() || !hs.isThreadAllocatedMemoryEnabled()) return -1;
+        return hs.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * 사용법: HeadlessSimulation [runs] [level] [shipIndex] [maxSimSeconds]
+     *        [--seed=N] [--parallel-collisions] [--parallel-move]
+     *        [--phase-timings]
+     * 모든 런을 돌린 뒤 요약과 초당/분당 런 수를 출력한다.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        // --로 시작하는 인자는 World 모드 옵션, 나머지는 순서대로 숫자 인자
+        List<String> positional = new ArrayList<>();
+        Long baseSeed = null;   // --seed=N이면 i번째 런은 N + i
+        boolean phaseTimings = false;
+        boolean parallelCollisions = false;
+        boolean parallelMove = false;
+        for (String a : args) {
+            if ("--parallel-collisions".equals(a)) parallelCollisions = true;
+            else if ("--parallel-move".equals(a)) parallelMove = true;
+            else if ("--phase-timings".equals(a)) phaseTimings = true;
+            else if (a.startsWith("--seed=")) baseSeed = Long.valueOf(a.substring("--seed=".length()));
+            else positional.add(a);
+        }
+        args = positional.toArray(new String[0]);
+
+        int runs      = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int level     = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+        int shipIndex = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+        long maxSimMs = (args.length > 3 ? Long.parseLong(args[3]) : 300) * 1000L;
+
+        long started = System.nanoTime();
+        long totalTicks = 0;
+        int wins = 0;
+        long scoreSum = 0;
+        long allocSum = 0;
+        String[] phaseNames = null;
+        long[] phaseNanos = null;
+        final boolean pc = parallelCollisions;
+        final boolean pm = parallelMove;
+        Consumer<World> configure = w -> {
+            w.setParallelNarrowPhase(pc);
+            w.setParallelMove(pm);
+        };
+        Random seeds = new Random();
+        for (int i = 0; i < runs; i++) {
+            long seed = (baseSeed != null) ? baseSeed + i : seeds.nextLong();
+            Result r = run(level, shipIndex, maxSimMs, seed, configure);
+            totalTicks += r.ticks;
+            scoreSum   += r.score;
+            allocSum    = (allocSum < 0 || r.allocatedBytes < 0) ? -1 : allocSum + r.allocatedBytes;
+            if (r.won) wins++;
+            if (phaseNanos == null) {
+                phaseNames = r.phaseNames;
+                phaseNanos = new long[r.phaseNanos.length];
+            }
+            for (int k = 0; k < phaseNanos.length; k++) {
+                phaseNanos[k] += r.phaseNanos[k];
+            }
+        }
+        double sec = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        System.out.printf("runs=%d wins=%d avgScore=%.1f ticks=%d%n",
+                runs, wins, runs == 0 ? 0.0 : scoreSum / (double) runs, totalTicks);
+        System.out.printf("wall=%.2fs  runs/min=%.0f  ticks/s=%.0f%n",
+                sec, runs / sec * 60.0, totalTicks / sec);
+        if (allocSum >= 0 && totalTicks > 0) {
+            System.out.printf("alloc=%.1fMB  bytes/tick=%.1f%n",
+                    allocSum / (1024.0 * 1024.0), allocSum / (double) totalTicks);
+        }
+        if (phaseTimings && phaseNanos != null && totalTicks > 0) {
+            for (int k = 0; k < phaseNanos.length; k++) {
+                System.out.printf("  phase %-10s avg=%.2fus  total=%.0fms%n", phaseNames[k],
+                        phaseNanos[k] / 1000.0 / totalTicks, phaseNanos[k] / 1_000_000.0);
+            }
+        }
+    }
+}
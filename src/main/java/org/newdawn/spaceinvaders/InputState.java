@@ -21,46 +21,34 @@ public class InputState {
 
     /** KeyPressed 이벤트를 반영 */
     public void onKeyPressed(KeyEvent e) {
-        int code = e.getKeyCode();
-        switch (code) {
-            case KeyEvent.VK_LEFT:
-                left = true;
-                break;
-            case KeyEvent.VK_RIGHT:
-                right = true;
-                break;
-            case KeyEvent.VK_SPACE:
-                fire = true;
-                break;
-            case KeyEvent.VK_B:
-                bomb = true;
-                break;
-            case KeyEvent.VK_L:
-                laser = true;
-                break;
-            default:
-                // 다른 키는 무시
-        }
+        setKey(e.getKeyCode(), true);
     }
 
     /** KeyReleased 이벤트를 반영 */
     public void onKeyReleased(KeyEvent e) {
-        int code = e.getKeyCode();
+        setKey(e.getKeyCode(), false);
+    }
+
+    /**
+     * 키 코드 기준으로 상태를 직접 설정.
+     * 헤드리스 시뮬레이션의 자동 조종처럼 KeyEvent 없이 입력을 넣을 때 사용.
+     */
+    public void setKey(int code, boolean down) {
         switch (code) {
             case KeyEvent.VK_LEFT:
-                left = false;
+                left = down;
                 break;
             case KeyEvent.VK_RIGHT:
-                right = false;
+                right = down;
                 break;
             case KeyEvent.VK_SPACE:
-                fire = false;
+                fire = down;
                 break;
             case KeyEvent.VK_B:
-                bomb = false;
+                bomb = down;
                 break;
             case KeyEvent.VK_L:
-                laser = false;
+                laser = down;
                 break;
             default:
                 // 다른 키는 무시
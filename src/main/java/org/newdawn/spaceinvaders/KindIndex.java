@@ -0,0 +1,80 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 종류(Entity.getKind)별 살아 있는 엔티티 목록.
+ * - 추가는 끝에 붙이고, 제거는 마지막 항목을 빈자리로 옮기는 O(1) 방식
+ *   (엔티티가 자기 자리 번호를 들고 있으므로 검색 없음)
+ * - 같은 엔티티를 두 번 제거해도 두 번째는 무시된다
+ * - 제거 때문에 목록 안 순서는 추가 순서와 다를 수 있다
+ */
+final class KindIndex {
+
+    private final Entity[][] items = new Entity[Entity.KIND_COUNT][];
+    private final int[] counts = new int[Entity.KIND_COUNT];
+    private int total = 0;
+
+    KindIndex() {
+        for (int k = 0; k < items.length; k++) {
+            items[k] = new Entity[8];
+        }
+    }
+
+    void add(Entity e) {
+        if (e.getIndexSlot() >= 0) return;   // 이미 들어 있음
+        int k = e.getKind();
+        int n = counts[k];
+        if (n == items[k].length) {
+            items[k] = Arrays.copyOf(items[k], n * 2);
+        }
+        items[k][n] = e;
+        e.setIndexSlot(n);
+        counts[k] = n + 1;
+        total++;
+    }
+
+    /** @return 실제로 빠졌으면 true (이미 빠져 있었으면 false) */
+    boolean remove(Entity e) {
+        int slot = e.getIndexSlot();
+        if (slot < 0) return false;          // 이미 빠짐
+        int k = e.getKind();
+        int last = --counts[k];
+        Entity moved = items[k][last];
+        items[k][slot] = moved;
+        moved.setIndexSlot(slot);
+        items[k][last] = null;
+        e.setIndexSlot(-1);
+        total--;
+        return true;
+    }
+
+    void clear() {
+        for (int k = 0; k < items.length; k++) {
+            for (int i = 0; i < counts[k]; i++) {
+                items[k][i].setIndexSlot(-1);
+                items[k][i] = null;
+            }
+            counts[k] = 0;
+        }
+        total = 0;
+    }
+
+    int count(int kind) { return counts[kind]; }
+
+    int total() { return total; }
+
+    Entity get(int kind, int i) { return items[kind][i]; }
+
+    /** 해당 종류의 배열 (앞에서부터 count(kind)개만 유효) */
+    Entity[] array(int kind) { return items[kind]; }
+
+    /** 해당 종류 중 하나를 고르게 무작위로 (없으면 null) */
+    Entity random(int kind, Random rng) {
+        int n = counts[kind];
+        return (n == 0) ? null : items[kind][rng.nextInt(n)];
+    }
+}
@@ -0,0 +1,164 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 한 종류의 엔티티 move()를 ForkJoinPool로 나눠 돌리는 이동 단계.
+ * - 다른 엔티티를 읽거나 스폰하지 않는 종류(총알/외계인/유성/블랙홀)에만 쓴다
+ * - 배열을 LEAF_SIZE 단위 조각으로 나누고, 조각마다 자기 부작용 버퍼를 쓴다.
+ *   이동 중 부작용(제거 예약, 로직 업데이트 요청)은 World가 recordRemove/recordLogicRequest로
+ *   지금 스레드가 맡은 조각의 버퍼에 돌려 적는다
+ * - 끝나면 조각 순서대로 이어 붙인다 → 호출한 쪽이 그 순서대로 적용하면 순차 루프와 결과가 같다
+ * 버퍼는 조각 번호로 이 객체가 들고 있으므로, 풀 스레드가 바뀌어도 쌓이지 않는다.
+ */
+final class ParallelMovePhase {
+
+    /** 한 조각(작업 하나가 직접 움직이는 엔티티 수) */
+    static final int LEAF_SIZE = 256;
+
+    /** 조각별 부작용 버퍼 */
+    private static final class EffectBuffer {
+        int count = 0;
+        Entity[] removed = new Entity[16];
+        boolean logicRequested;
+
+        void remove(Entity e) {
+            if (count == removed.length) {
+                removed = Arrays.copyOf(removed, count * 2);
+            }
+            removed[count++] = e;
+        }
+
+        void clear() {
+            Arrays.fill(removed, 0, count, null);
+            count = 0;
+            logicRequested = false;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    /** 조각 번호별 버퍼 (가장 많이 나눈 때만큼만 늘어난다) */
+    private EffectBuffer[] buffers = new EffectBuffer[0];
+    /** 작업 스레드가 지금 맡은 조각의 버퍼 (조각이 끝나면 비운다) */
+    private final ThreadLocal<EffectBuffer> current = new ThreadLocal<>();
+
+    /** run() 도중에만 true (이때의 제거/요청은 버퍼로 간다) */
+    private volatile boolean active = false;
+
+    /** 합친 제거 대상 */
+    private Entity[] removals = new Entity[64];
+    private boolean logicRequested;
+
+    ParallelMovePhase(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** 이동 단계 중이면 제거 예약을 버퍼에 적고 true */
+    boolean recordRemove(Entity e) {
+        if (!active) return false;
+        current.get().remove(e);
+        return true;
+    }
+
+    /** 이동 단계 중이면 로직 업데이트 요청을 버퍼에 적고 true */
+    boolean recordLogicRequest() {
+        if (!active) return false;
+        current.get().logicRequested = true;
+        return true;
+    }
+
+    /**
+     * items[0, count)를 나눠서 move(delta). 끝나면 이동 중 제거 예약된 엔티티를
+     * 배열 순서대로 getRemovals()에 담는다.
+     * @return 제거 예약 개수
+     */
+    int run(Entity[] items, int count, long delta) {
+        int leaves = (count + LEAF_SIZE - 1) / LEAF_SIZE;
+        if (buffers.length < leaves) {
+            int old = buffers.length;
+            buffers = Arrays.copyOf(buffers, leaves);
+            for (int i = old; i < leaves; i++) {
+                buffers[i] = new EffectBuffer();
+            }
+        }
+
+        active = true;
+        try {
+            pool.invoke(new MoveTask(items, count, 0, leaves, delta));
+        } finally {
+            active = false;
+        }
+
+        int total = 0;
+        logicRequested = false;
+        for (int i = 0; i < leaves; i++) {
+            total += buffers[i].count;
+            logicRequested |= buffers[i].logicRequested;
+        }
+        if (removals.length < total) {
+            removals = new Entity[Math.max(total, removals.length * 2)];
+        }
+        int n = 0;
+        for (int i = 0; i < leaves; i++) {
+            EffectBuffer b = buffers[i];
+            System.arraycopy(b.removed, 0, removals, n, b.count);
+            n += b.count;
+            b.clear();
+        }
+        return total;
+    }
+
+    /** 마지막 run()에서 제거 예약된 엔티티 (앞에서부터 반환된 개수만큼 유효) */
+    Entity[] getRemovals() {
+        return removals;
+    }
+
+    /** 마지막 run() 중 로직 업데이트 요청이 있었는지 */
+    boolean isLogicRequested() {
+        return logicRequested;
+    }
+
+    /** 조각 [fromLeaf, toLeaf)를 맡는 작업 */
+    private final class MoveTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Entity[] items;
+        private final int count;
+        private final int fromLeaf;
+        private final int toLeaf;
+        private final long delta;
+
+        MoveTask(Entity[] items, int count, int fromLeaf, int toLeaf, long delta) {
+            this.items = items;
+            this.count = count;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+            this.delta = delta;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > 1) {
+                int mid = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(new MoveTask(items, count, fromLeaf, mid, delta),
+                          new MoveTask(items, count, mid, toLeaf, delta));
+                return;
+            }
+            current.set(buffers[fromLeaf]);
+            try {
+                int end = Math.min(count, (fromLeaf + 1) * LEAF_SIZE);
+                for (int i = fromLeaf * LEAF_SIZE; i < end; i++) {
+                    if (items[i].isRemoved()) continue;
+                    items[i].move(delta);
+                }
+            } finally {
+                current.set(null);
+            }
+        }
+    }
+}
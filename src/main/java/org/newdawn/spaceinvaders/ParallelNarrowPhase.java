@@ -0,0 +1,133 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.newdawn.spaceinvaders.entity.Entity;
+
+/**
+ * 후보 쌍의 사각형 판정(collidesWith)만 ForkJoinPool로 나눠 돌리는 narrow phase.
+ * - 쌍은 (i << 32 | j)로 묶은 long 배열로 받는다 (호출한 쪽이 (i, j) 오름차순으로 모음)
+ * - 배열을 LEAF_PAIRS 단위 조각으로 나누고, 작업 스레드는 게임 상태를 바꾸지 않고
+ *   맞닿은 쌍을 조각별 버퍼에만 적는다
+ * - 끝나면 조각 순서대로 이어 붙인다 → 기존 이중 루프와 같은 (i, j) 순서가 된다
+ * 실제 충돌 처리(collidedWith 등 상태 변경)는 호출한 쪽(메인 스레드)이 순서대로 한다.
+ * 버퍼는 조각 번호로 이 객체가 들고 있으므로, 풀 스레드가 바뀌어도 쌓이지 않는다.
+ */
+final class ParallelNarrowPhase {
+
+    /** 한 조각(작업 하나가 직접 판정하는 쌍 수) */
+    private static final int LEAF_PAIRS = 256;
+
+    /** 조각별 접촉 버퍼 */
+    private static final class ContactBuffer {
+        long[] items = new long[32];
+        int count = 0;
+
+        void add(long pair) {
+            if (count == items.length) {
+                items = Arrays.copyOf(items, count * 2);
+            }
+            items[count++] = pair;
+        }
+    }
+
+    private final ForkJoinPool pool;
+
+    /** 조각 번호별 버퍼 (가장 많이 나눈 때만큼만 늘어난다) */
+    private ContactBuffer[] buffers = new ContactBuffer[0];
+
+    /** 이어 붙인 결과 */
+    private long[] contacts = new long[64];
+
+    ParallelNarrowPhase(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    static long pack(int i, int j) {
+        return ((long) i << 32) | (j & 0xffffffffL);
+    }
+
+    static int first(long pair)  { return (int) (pair >>> 32); }
+    static int second(long pair) { return (int) pair; }
+
+    /**
+     * pairs[0, count) 중 맞닿은 쌍을 같은 순서로 getContacts()에 담는다.
+     * 판정 중에는 entities가 바뀌지 않아야 한다.
+     * @return 맞닿은 쌍 개수
+     */
+    int run(List<Entity> entities, long[] pairs, int count) {
+        int leaves = (count + LEAF_PAIRS - 1) / LEAF_PAIRS;
+        if (buffers.length < leaves) {
+            int old = buffers.length;
+            buffers = Arrays.copyOf(buffers, leaves);
+            for (int i = old; i < leaves; i++) {
+                buffers[i] = new ContactBuffer();
+            }
+        }
+
+        pool.invoke(new PairTask(entities, pairs, count, 0, leaves));
+
+        int total = 0;
+        for (int i = 0; i < leaves; i++) {
+            total += buffers[i].count;
+        }
+        if (contacts.length < total) {
+            contacts = new long[Math.max(total, contacts.length * 2)];
+        }
+        int n = 0;
+        for (int i = 0; i < leaves; i++) {
+            ContactBuffer b = buffers[i];
+            System.arraycopy(b.items, 0, contacts, n, b.count);
+            n += b.count;
+            b.count = 0;
+        }
+        return total;
+    }
+
+    /** 마지막 run() 결과 (앞에서부터 반환된 개수만큼 유효) */
+    long[] getContacts() {
+        return contacts;
+    }
+
+    /** 조각 [fromLeaf, toLeaf)를 맡는 작업 */
+    private final class PairTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Entity> entities;
+        private final long[] pairs;
+        private final int count;
+        private final int fromLeaf;
+        private final int toLeaf;
+
+        PairTask(List<Entity> entities, long[] pairs, int count, int fromLeaf, int toLeaf) {
+            this.entities = entities;
+            this.pairs = pairs;
+            this.count = count;
+            this.fromLeaf = fromLeaf;
+            this.toLeaf = toLeaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (toLeaf - fromLeaf > 1) {
+                int mid = (fromLeaf + toLeaf) >>> 1;
+                invokeAll(new PairTask(entities, pairs, count, fromLeaf, mid),
+                          new PairTask(entities, pairs, count, mid, toLeaf));
+                return;
+            }
+            ContactBuffer out = buffers[fromLeaf];
+            int end = Math.min(count, (fromLeaf + 1) * LEAF_PAIRS);
+            for (int k = fromLeaf * LEAF_PAIRS; k < end; k++) {
+                long p = pairs[k];
+                Entity a = entities.get(first(p));
+                Entity b = entities.get(second(p));
+                if (a.collidesWith(b)) {
+                    out.add(p);
+                }
+            }
+        }
+    }
+}
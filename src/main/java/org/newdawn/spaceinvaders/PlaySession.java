@@ -15,7 +15,7 @@ public final class PlaySession {
     public PlaySession(GameContext context, int maxLives) {
         this.context = context;
         this.lives = maxLives;
-        this.runStartTime = SystemTimer.getTime();
+        this.runStartTime = context.getClock().now();
     }
 
     public void onAlienKilled(int cx, int cy) {
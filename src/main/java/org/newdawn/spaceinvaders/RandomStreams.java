@@ -0,0 +1,34 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Random;
+
+/**
+ * 런 시드 하나에서 용도별 난수 스트림을 나눠 만든다.
+ * - 스트림마다 시드를 섞어서(SplitMix64) 서로 독립적인 수열을 쓴다
+ *   → 한쪽에서 난수를 더 뽑아도 다른 쪽 수열이 밀리지 않는다
+ * - 같은 시드 + 같은 입력이면 스폰/드랍/사수 선택이 어느 기계에서나 같다
+ */
+public final class RandomStreams {
+
+    /** SpawnManager: 유성/블랙홀 스폰 위치 */
+    public static final int SPAWN = 1;
+    /** PlayScreen: 사수 선택, 아이템 드랍 */
+    public static final int PLAY  = 2;
+    /** World: 외부 난수 없이 부른 스폰/사격 */
+    public static final int WORLD = 3;
+
+    private RandomStreams() { /* 유틸 클래스 */ }
+
+    /** seed의 stream번 스트림 */
+    public static Random create(long seed, int stream) {
+        return new Random(seedFor(seed, stream));
+    }
+
+    /** seed의 stream번 스트림 시드 (Random.setSeed용) */
+    public static long seedFor(long seed, int stream) {
+        long z = seed + stream * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,267 @@
+package org.newdawn.spaceinvaders;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+
+/**
+ * 한 시뮬레이션 틱 분량의 "그릴 것" 목록 (엔티티별 스프라이트/위치/레이어 + HUD 값).
+ * - 시뮬레이션 스레드가 채우고, 다 채운 뒤 SnapshotBuffers로 넘긴다
+ * - 렌더 스레드는 넘겨받은 스냅샷만 읽으므로 World/엔티티를 건드리지 않는다
+ * - 배열은 재사용하며 필요할 때만 늘린다 (틱마다 할당 없음)
+ * - 도형은 종류/크기만 기록하고 그리기는 여기 정적 메소드가 한다
+ *   (엔티티의 직접 그리기도 같은 메소드를 써서 두 경로 모양이 같다)
+ */
+public final class RenderSnapshot {
+
+    // 그리기 레이어 (작은 값부터 그림)
+    public static final int LAYER_BACKGROUND = 0;
+    public static final int LAYER_ACTORS     = 1;
+    public static final int LAYER_EFFECTS    = 2;
+    private static final int LAYER_COUNT     = 3;
+
+    // 그리기 종류
+    public static final int KIND_SPRITE         = 0;
+    public static final int KIND_SPRITE_FLIPPED = 1;  // 180도 회전 스프라이트 (적 총알)
+    public static final int KIND_DIAMOND        = 2;  // 마름모 (레이저 아이템)
+    public static final int KIND_BEAM           = 3;  // 세로 빔 사각형 (레이저 빔, y는 무시)
+    public static final int KIND_FIELD          = 4;  // 반경 원 (스프라이트 없는 블랙홀, h = 반경)
+
+    private static final int BEAM_ALPHA = 170;
+
+    private int count = 0;
+    private Sprite[] sprites = new Sprite[64];
+    private double[] prevX   = new double[64];
+    private double[] prevY   = new double[64];
+    private double[] curX    = new double[64];
+    private double[] curY    = new double[64];
+    private int[]    widths  = new int[64];
+    private int[]    heights = new int[64];
+    private int[]    kinds   = new int[64];
+    private int[]    layers  = new int[64];
+
+    /** false면 엔티티 목록 대신 화면이 직접 그려야 함 (메뉴 화면 등) */
+    public boolean hasEntities = false;
+    /** 스냅샷이 완성된 시각(ns, SystemTimer.getNanoTime 기준) — 렌더 보간 기준 */
+    public long publishedAtNanos = 0;
+    /** 공개 시점의 보간 비율과, 그 뒤 실제 시간 한 틱마다 늘어나는 양 (Screen.renderAlpha/renderAlphaRate) */
+    public double alpha = 0;
+    public double alphaPerTick = 1.0;
+
+    // ===== HUD 값 =====
+    public int lives, maxLives;
+    public int bombCount, bombMax;
+    public int laserCount, laserMax;
+    public int score;
+    /** bossMaxHp == 0 이면 보스 HP 바를 그리지 않는다 */
+    public int bossHp, bossMaxHp;
+    public String toastText;
+    public long   toastUntil;
+    /** 스냅샷 시점의 게임 시각(GameClock) — 토스트 만료 비교용 */
+    public long   clockMs;
+
+    /** 엔티티 목록/HUD 초기화 (배열은 유지) */
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            sprites[i] = null;
+        }
+        count = 0;
+        hasEntities = false;
+        bossHp = bossMaxHp = 0;
+        toastText = null;
+    }
+
+    public int size() { return count; }
+
+    /** 스프라이트 하나 추가 (직전 틱 위치 ~ 현재 위치) */
+    public void addSprite(Sprite sprite, double px, double py, double x, double y, int layer) {
+        if (sprite == null) return;
+        int i = push(px, py, x, y, sprite.getWidth(), sprite.getHeight(), KIND_SPRITE, layer);
+        sprites[i] = sprite;
+    }
+
+    /** 180도 회전된 스프라이트 추가 */
+    public void addFlippedSprite(Sprite sprite, double px, double py, double x, double y, int layer) {
+        if (sprite == null) return;
+        int i = push(px, py, x, y, sprite.getWidth(), sprite.getHeight(), KIND_SPRITE_FLIPPED, layer);
+        sprites[i] = sprite;
+    }
+
+    /** 도형(레이저 아이템/빔, 필드 원) 추가 */
+    public void addShape(int kind, double px, double py, double x, double y, int w, int h, int layer) {
+        push(px, py, x, y, w, h, kind, layer);
+    }
+
+    private int push(double px, double py, double x, double y, int w, int h, int kind, int layer) {
+        if (count == sprites.length) {
+            grow();
+        }
+        int i = count++;
+        prevX[i] = px;
+        prevY[i] = py;
+        curX[i]  = x;
+        curY[i]  = y;
+        widths[i]  = w;
+        heights[i] = h;
+        kinds[i]   = kind;
+        layers[i]  = layer;
+        return i;
+    }
+
+    private void grow() {
+        int n = sprites.length * 2;
+        sprites = Arrays.copyOf(sprites, n);
+        prevX   = Arrays.copyOf(prevX, n);
+        prevY   = Arrays.copyOf(prevY, n);
+        curX    = Arrays.copyOf(curX, n);
+        curY    = Arrays.copyOf(curY, n);
+        widths  = Arrays.copyOf(widths, n);
+        heights = Arrays.copyOf(heights, n);
+        kinds   = Arrays.copyOf(kinds, n);
+        layers  = Arrays.copyOf(layers, n);
+    }
+
+    /**
+     * 엔티티 목록을 레이어 순서대로 그린다 (같은 레이어 안에서는 추가된 순서).
+     * @param alpha 직전 틱(0) ~ 현재 틱(1) 사이 보간 비율
+     */
+    public void drawEntities(Graphics2D g, double alpha) {
+        for (int layer = 0; layer < LAYER_COUNT; layer++) {
+            for (int i = 0; i < count; i++) {
+                if (layers[i] != layer) continue;
+
+                int x = (int) (prevX[i] + (curX[i] - prevX[i]) * alpha);
+                int y = (int) (prevY[i] + (curY[i] - prevY[i]) * alpha);
+                switch (kinds[i]) {
+                    case KIND_SPRITE:
+                        sprites[i].draw(g, x, y);
+                        break;
+                    case KIND_SPRITE_FLIPPED:
+                        drawFlipped(g, sprites[i], x, y);
+                        break;
+                    case KIND_DIAMOND:
+                        drawDiamond(g, x, y, widths[i], heights[i]);
+                        break;
+                    case KIND_BEAM:
+                        drawBeam(g, x, widths[i], heights[i]);
+                        break;
+                    case KIND_FIELD:
+                        drawField(g, x, y, widths[i], heights[i]);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+    }
+
+    // ===== 도형 그리기 (스냅샷/엔티티 공용) =====
+
+    /** 스프라이트를 (x, y) 자리에 중심 기준 180도 회전해서 그린다 */
+    public static void drawFlipped(Graphics2D g2, Sprite sprite, int x, int y) {
+        AffineTransform old = g2.getTransform();
+
+        int w = sprite.getWidth();
+        int h = sprite.getHeight();
+
+        // 중심 기준 회전
+        g2.translate(x + w / 2.0, y + h / 2.0);
+        g2.rotate(Math.PI); // 180도
+        // 회전된 좌표계에서 좌상단 보정
+        sprite.draw(g2, -w / 2, -h / 2);
+
+        g2.setTransform(old);
+    }
+
+    /** w x h 상자 안의 마름모를 좌상단 (drawX, drawY) 기준으로 그린다 */
+    public static void drawDiamond(Graphics g, int drawX, int drawY, int w, int h) {
+        int cx = drawX + w / 2;
+        int cy = drawY + h / 2;
+        int hw = w / 2;
+        int hh = h / 2;
+
+        Polygon diamond = new Polygon(
+                new int[] { cx, cx + hw, cx, cx - hw },
+                new int[] { cy - hh, cy, cy + hh, cy },
+                4
+        );
+        g.setColor(new Color(255, 80, 80, 230));
+        g.fillPolygon(diamond);
+        g.setColor(new Color(255, 0, 0, 240));
+        g.drawPolygon(diamond);
+    }
+
+    /** 화면 위에서 height까지 내려오는 빔(세로 사각형)을 그린다 */
+    public static void drawBeam(Graphics g, int left, int width, int height) {
+        g.setColor(new Color(255, 0, 0, BEAM_ALPHA));
+        g.fillRect(left, 0, width, height);
+        g.setColor(new Color(255, 200, 200, BEAM_ALPHA));
+        g.drawRect(left, 0, width, height);
+    }
+
+    /** 폭 width인 상자 중심에 반경 r 반투명 원을 그린다 */
+    public static void drawField(Graphics g, int x, int y, int width, int r) {
+        g.setColor(new Color(80, 80, 200, 150));
+        g.fillOval((int)(x + width/2.0 - r), (int)(y + width/2.0 - r), r * 2, r * 2);
+    }
+
+    /** 인게임 HUD(목숨/폭탄/레이저/점수, 보스 HP 바, 토스트)를 그린다 */
+    public void drawHud(Graphics2D g, int virtualWidth, int virtualHeight, long nowMs) {
+        drawBossHP(g, virtualWidth);
+
+        g.setColor(Color.WHITE);
+        g.setFont(new Font("SansSerif", Font.BOLD, 14));
+
+        g.drawString("Lives: " + lives + " / " + maxLives, 10, 20);
+        g.drawString("Bomb: " + bombCount + "/" + bombMax + " (B)", 10, 40);
+        g.drawString("Laser: " + laserCount + "/" + laserMax + " (L)", 10, 60);
+        g.drawString("Score: " + score, 10, 80);
+
+        drawToast(g, virtualWidth, virtualHeight, nowMs);
+    }
+
+    private void drawBossHP(Graphics2D g, int virtualWidth) {
+        if (bossMaxHp <= 0 || bossHp <= 0) return;
+
+        int barW = 400;
+        int barH = 14;
+        int x    = (virtualWidth - barW) / 2;
+        int y    = 36;
+
+        g.setColor(new Color(0, 0, 0, 160));
+        g.fillRoundRect(x - 2, y - 2, barW + 4, barH + 4, 8, 8);
+
+        double ratio = Math.max(0, Math.min(1.0, bossHp / (double) bossMaxHp));
+        int fill     = (int) (barW * ratio);
+
+        g.setColor(new Color(200, 50, 50));
+        g.fillRoundRect(x, y, fill, barH, 8, 8);
+
+        g.setColor(Color.WHITE);
+        g.drawString("BOSS", x, y - 6);
+    }
+
+    private void drawToast(Graphics2D g, int virtualWidth, int virtualHeight, long nowMs) {
+        if (toastText == null || nowMs > toastUntil) {
+            return;
+        }
+
+        g.setFont(new Font("SansSerif", Font.BOLD, 16));
+        FontMetrics fm = g.getFontMetrics();
+        int textW = fm.stringWidth(toastText);
+        int textH = fm.getHeight();
+        int x = (virtualWidth - textW) / 2;
+        int y = virtualHeight - 60;
+
+        g.setColor(new Color(0, 0, 0, 150));
+        g.fillRoundRect(x - 10, y - textH, textW + 20, textH + 10, 10, 10);
+
+        g.setColor(Color.WHITE);
+        g.drawString(toastText, x, y);
+    }
+}
@@ -0,0 +1,41 @@
+package org.newdawn.spaceinvaders;
+
+/**
+ * 시뮬레이션 스레드 → 렌더 스레드로 RenderSnapshot을 넘기는 3중 버퍼.
+ * - back  : 시뮬레이션 스레드가 채우는 중인 버퍼
+ * - ready : 가장 최근에 완성된 버퍼
+ * - front : 렌더 스레드가 그리는 중인 버퍼
+ * 교환은 참조 swap뿐이라 양쪽 모두 상대를 기다리지 않는다
+ * (렌더가 느리면 중간 스냅샷은 건너뛰고, 시뮬레이션이 느리면 마지막 것을 다시 그린다).
+ */
+public final class SnapshotBuffers {
+
+    private RenderSnapshot back  = new RenderSnapshot();
+    private RenderSnapshot ready = new RenderSnapshot();
+    private RenderSnapshot front = new RenderSnapshot();
+    private boolean fresh = false;
+
+    /** 시뮬레이션 스레드 전용: 채울 버퍼 */
+    public RenderSnapshot writeBuffer() {
+        return back;
+    }
+
+    /** 시뮬레이션 스레드 전용: back을 다 채웠으면 최신 버퍼로 공개 */
+    public synchronized void publish() {
+        RenderSnapshot t = ready;
+        ready = back;
+        back  = t;
+        fresh = true;
+    }
+
+    /** 렌더 스레드 전용: 새로 완성된 스냅샷이 있으면 그것을, 없으면 직전 것을 반환 */
+    public synchronized RenderSnapshot acquireLatest() {
+        if (fresh) {
+            RenderSnapshot t = front;
+            front = ready;
+            ready = t;
+            fresh = false;
+        }
+        return front;
+    }
+}
@@ -0,0 +1,157 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * 가상 화면(800x600)을 균일한 셀로 나눈 공간 해시 (충돌 broad phase, 공간 질의용).
+ * - 충돌: 틱마다 clear() 후 엔티티 번호(id)와 픽셀 범위를 insert()로 다시 채운다
+ * - 질의: 셀 좌표로 insertCells()/removeCells() 해서 바뀐 항목만 고쳐 가며 유지한다
+ * - 화면 밖 좌표는 가장자리 셀로 붙이므로 누락은 없고, 후보가 조금 늘어날 뿐이다
+ * - 셀별 배열을 재사용하므로 한 번 커진 뒤에는 할당이 없다
+ */
+public final class SpatialGrid {
+
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+
+    /** 셀별 id 목록 */
+    private final int[][] cellItems;
+    private final int[]   cellCounts;
+
+    /** 중복 후보 제거용 표식 (id -> 마지막으로 본 질의 번호) */
+    private int[] marks = new int[64];
+    private int   queryStamp = 0;
+
+    /** gather() 결과 버퍼 (재사용) */
+    private int[] found = new int[32];
+
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = (width  + cellSize - 1) / cellSize;
+        this.rows = (height + cellSize - 1) / cellSize;
+        this.cellItems  = new int[cols * rows][];
+        this.cellCounts = new int[cols * rows];
+        for (int i = 0; i < cellItems.length; i++) {
+            cellItems[i] = new int[8];
+        }
+    }
+
+    /** 모든 셀 비우기 (배열은 유지) */
+    public void clear() {
+        Arrays.fill(cellCounts, 0);
+    }
+
+    public int cellColOf(int px) { return clamp(Math.floorDiv(px, cellSize), cols); }
+    public int cellRowOf(int py) { return clamp(Math.floorDiv(py, cellSize), rows); }
+
+    /**
+     * id를 픽셀 범위 [minX, maxX] x [minY, maxY](양끝 포함)가 걸치는 모든 셀에 넣는다.
+     */
+    public void insert(int id, int minX, int minY, int maxX, int maxY) {
+        int c0 = cellColOf(minX), c1 = cellColOf(maxX);
+        int r0 = cellRowOf(minY), r1 = cellRowOf(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                add(r * cols + c, id);
+            }
+        }
+    }
+
+    /** id를 셀 범위 [c0, c1] x [r0, r1](셀 좌표, 양끝 포함)에 넣는다 */
+    public void insertCells(int id, int c0, int r0, int c1, int r1) {
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                add(r * cols + c, id);
+            }
+        }
+    }
+
+    /** insertCells로 넣은 id를 같은 셀 범위에서 뺀다 (셀 안 순서는 바뀌지만 gather가 정렬한다) */
+    public void removeCells(int id, int c0, int r0, int c1, int r1) {
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                int[] items = cellItems[cell];
+                int last = cellCounts[cell] - 1;
+                for (int k = last; k >= 0; k--) {
+                    if (items[k] == id) {
+                        items[k] = items[last];
+                        cellCounts[cell] = last;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 픽셀 범위가 걸치는 셀들에서 id가 minIdExclusive보다 큰 항목을 중복 없이 모아
+     * 오름차순으로 결과 버퍼(getFound())에 담는다.
+     * @return 결과 개수
+     */
+    public int gather(int minIdExclusive, int minX, int minY, int maxX, int maxY) {
+        int stamp = nextStamp();
+        int n = 0;
+
+        int c0 = cellColOf(minX), c1 = cellColOf(maxX);
+        int r0 = cellRowOf(minY), r1 = cellRowOf(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * cols + c;
+                int[] items = cellItems[cell];
+                int count = cellCounts[cell];
+                for (int k = 0; k < count; k++) {
+                    int id = items[k];
+                    if (id <= minIdExclusive || marks[id] == stamp) continue;
+                    marks[id] = stamp;
+                    if (n == found.length) {
+                        found = Arrays.copyOf(found, n * 2);
+                    }
+                    found[n++] = id;
+                }
+            }
+        }
+        // 셀 순회 순서와 무관하게 id 오름차순 (= 기존 이중 루프의 j 순서)
+        Arrays.sort(found, 0, n);
+        return n;
+    }
+
+    /** 마지막 gather() 결과 (앞에서부터 반환된 개수만큼 유효) */
+    public int[] getFound() {
+        return found;
+    }
+
+    /** 표식 배열이 id를 담을 수 있도록 크기 확보 */
+    public void ensureIdCapacity(int count) {
+        if (marks.length < count) {
+            marks = Arrays.copyOf(marks, Math.max(count, marks.length * 2));
+        }
+    }
+
+    private int nextStamp() {
+        queryStamp++;
+        if (queryStamp == Integer.MAX_VALUE) {
+            Arrays.fill(marks, 0);
+            queryStamp = 1;
+        }
+        return queryStamp;
+    }
+
+    private void add(int cell, int id) {
+        int[] items = cellItems[cell];
+        int count = cellCounts[cell];
+        if (count == items.length) {
+            items = Arrays.copyOf(items, count * 2);
+            cellItems[cell] = items;
+        }
+        items[count] = id;
+        cellCounts[cell] = count + 1;
+    }
+
+    private static int clamp(int v, int n) {
+        if (v < 0) return 0;
+        if (v >= n) return n - 1;
+        return v;
+    }
+}
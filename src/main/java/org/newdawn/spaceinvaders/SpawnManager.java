@@ -8,87 +8,84 @@ import java.util.Random;
  * - 유성 스폰 타이밍
  * - 블랙홀 스폰 타이밍
  *
+ * 매 틱 시각을 비교하지 않고 게임 시계의 타이머 휠에 다음 시각을 예약해 두고,
+ * 울릴 때 실행한 뒤 다음 주기를 다시 예약한다.
  * 실제 "무엇을 어떻게 스폰"하는지는 GameContext에 위임한다.
  */
 public class SpawnManager {
 
     private final GameContext ctx;
-    private final Random rng = new Random();
+    private final Random rng;
 
-    /** 마지막 외계인 사격 시각(ms) */
-    private long lastAlienFire = 0;
+    /** 예약해 둔 타이머 핸들 (resetTimers()에서 취소) */
+    private long fireTimer      = TimerWheel.NO_TIMER;
+    private long asteroidTimer  = TimerWheel.NO_TIMER;
+    private long blackHoleTimer = TimerWheel.NO_TIMER;
 
-    /** 다음 유성 스폰 시각(ms) */
-    private long nextAsteroidSpawn = 0;
-
-    /** 다음 블랙홀 스폰 시각(ms) */
-    private long nextBlackHoleSpawn = 0;
+    /** 타이머 동작 (예약할 때마다 람다를 새로 만들지 않게 하나씩) */
+    private final TimerWheel.Action fireAction      = arg -> onAlienFire();
+    private final TimerWheel.Action asteroidAction  = arg -> onAsteroid();
+    private final TimerWheel.Action blackHoleAction = arg -> onBlackHole();
 
     public SpawnManager(GameContext ctx) {
+        this(ctx, new Random());
+    }
+
+    /** 스폰 위치를 정해진 난수 스트림으로 뽑는다 (같은 시드면 같은 스폰) */
+    public SpawnManager(GameContext ctx, Random rng) {
         this.ctx = ctx;
+        this.rng = rng;
     }
 
     /**
-     * 한 프레임당 한 번 호출해서,
-     * - 외계인 사격
-     * - 유성/블랙홀 스폰
-     * 타이밍을 모두 처리한다.
+     * 런 시작 시각 now 기준으로 첫 사격/스폰을 예약한다 (각각 한 주기 뒤).
+     * 주기가 0 이하인 것은 예약하지 않는다.
      */
-    public void update(long nowMillis) {
-        tryAlienFire(nowMillis);
-        spawnAsteroidIfNeeded(nowMillis);
-        spawnBlackHoleIfNeeded(nowMillis);
-    }
-
-    /** 외계인 사격 타이밍 처리 */
-    private void tryAlienFire(long now) {
-        long interval = ctx.getAlienFireIntervalMs();  // GameContext에 getter 선언
-        if (now - lastAlienFire < interval) {
-            return;
+    public void start(long now) {
+        resetTimers();
+        TimerWheel timers = ctx.getClock().getTimers();
+        long fire = ctx.getAlienFireIntervalMs();   // GameContext에 getter 선언
+        if (fire > 0) {
+            fireTimer = timers.schedule(now + fire, fireAction, 0);
         }
-
-        // 실제 발사: 어떤 외계인이 쏠지, 총알 생성은 GameContext에 위임
-        if (ctx.fireRandomAlienShot()) {
-            lastAlienFire = now;
+        long asteroid = ctx.getAsteroidIntervalMs();
+        if (asteroid > 0) {
+            asteroidTimer = timers.schedule(now + asteroid, asteroidAction, 0);
         }
-    }
-
-    /** 유성 스폰 타이밍 처리 */
-    private void spawnAsteroidIfNeeded(long now) {
-        long interval = ctx.getAsteroidIntervalMs();
-        if (interval <= 0) return;
-
-        if (nextAsteroidSpawn == 0L) {
-            nextAsteroidSpawn = now + interval;
-            return;
-        }
-
-        if (now >= nextAsteroidSpawn) {
-            ctx.spawnAsteroidRandom(rng);
-            nextAsteroidSpawn = now + interval;
+        long blackHole = ctx.getBlackHoleIntervalMs();
+        if (blackHole > 0) {
+            blackHoleTimer = timers.schedule(now + blackHole, blackHoleAction, 0);
         }
     }
 
-    /** 블랙홀 스폰 타이밍 처리 */
-    private void spawnBlackHoleIfNeeded(long now) {
-        long interval = ctx.getBlackHoleIntervalMs();
-        if (interval <= 0) return;
+    /** 외계인 사격: 쏠 외계인이 없으면 다음 틱에 다시 시도, 쐈으면 한 주기 뒤 */
+    private void onAlienFire() {
+        long now = ctx.getClock().now();
+        // 실제 발사: 어떤 외계인이 쏠지, 총알 생성은 GameContext에 위임
+        long next = ctx.fireRandomAlienShot() ? now + ctx.getAlienFireIntervalMs() : now + 1;
+        fireTimer = ctx.getClock().getTimers().schedule(next, fireAction, 0);
+    }
 
-        if (nextBlackHoleSpawn == 0L) {
-            nextBlackHoleSpawn = now + interval;
-            return;
-        }
+    /** 유성 스폰 후 다음 주기 예약 */
+    private void onAsteroid() {
+        ctx.spawnAsteroidRandom(rng);
+        long next = ctx.getClock().now() + ctx.getAsteroidIntervalMs();
+        asteroidTimer = ctx.getClock().getTimers().schedule(next, asteroidAction, 0);
+    }
 
-        if (now >= nextBlackHoleSpawn) {
-            ctx.spawnBlackHoleAroundPlayer(rng);
-            nextBlackHoleSpawn = now + interval;
-        }
+    /** 블랙홀 스폰 후 다음 주기 예약 */
+    private void onBlackHole() {
+        ctx.spawnBlackHoleAroundPlayer(rng);
+        long next = ctx.getClock().now() + ctx.getBlackHoleIntervalMs();
+        blackHoleTimer = ctx.getClock().getTimers().schedule(next, blackHoleAction, 0);
     }
 
-    /** (선택) 리셋할 때 호출용 */
+    /** (선택) 리셋할 때 호출용: 예약된 사격/스폰을 모두 취소 */
     public void resetTimers() {
-        lastAlienFire = 0L;
-        nextAsteroidSpawn = 0L;
-        nextBlackHoleSpawn = 0L;
+        TimerWheel timers = ctx.getClock().getTimers();
+        timers.cancel(fireTimer);
+        timers.cancel(asteroidTimer);
+        timers.cancel(blackHoleTimer);
+        fireTimer = asteroidTimer = blackHoleTimer = TimerWheel.NO_TIMER;
     }
 }
@@ -13,8 +13,14 @@ import java.awt.Image;
  * @author Kevin Glass
  */
 public class Sprite {
-	/** The image to be drawn for this sprite */
+	/** The image to be drawn for this sprite (null for headless sprites) */
 	private Image image;
+	/** The cached width of this sprite */
+	private final int width;
+	/** The cached height of this sprite */
+	private final int height;
+	/** The opaque pixels of this sprite for collisions (null means the full rectangle) */
+	private CollisionMask mask;
 	
 	/**
 	 * Create a new sprite based on an image
@@ -23,6 +29,21 @@ public class Sprite {
 	 */
 	public Sprite(Image image) {
 		this.image = image;
+		this.width = image.getWidth(null);
+		this.height = image.getHeight(null);
+	}
+
+	/**
+	 * Create a headless sprite which only knows its dimensions. It is
+	 * used for collisions when running without a display and draws nothing.
+	 * 
+	 * @param width The width in pixels of this sprite
+	 * @param height The height in pixels of this sprite
+	 */
+	public Sprite(int width, int height) {
+		this.image = null;
+		this.width = width;
+		this.height = height;
 	}
 	
 	/**
@@ -31,7 +52,7 @@ public class Sprite {
 	 * @return The width in pixels of this sprite
 	 */
 	public int getWidth() {
-		return image.getWidth(null);
+		return width;
 	}
 
 	/**
@@ -40,7 +61,26 @@ public class Sprite {
 	 * @return The height in pixels of this sprite
 	 */
 	public int getHeight() {
-		return image.getHeight(null);
+		return height;
+	}
+	
+	/**
+	 * Get the collision mask built from the sprite's alpha channel
+	 * 
+	 * @return The mask, or null if the whole rectangle should collide
+	 */
+	public CollisionMask getCollisionMask() {
+		return mask;
+	}
+
+	/**
+	 * Attach the collision mask for this sprite. Called once by the
+	 * SpriteStore when the sprite is loaded.
+	 * 
+	 * @param mask The mask built from the source image
+	 */
+	void setCollisionMask(CollisionMask mask) {
+		this.mask = mask;
 	}
 	
 	/**
@@ -51,6 +91,9 @@ public class Sprite {
 	 * @param y The y location at which to draw the sprite
 	 */
 	public void draw(Graphics g,int x,int y) {
+		if (image == null) {
+			return;
+		}
 		g.drawImage(image,x,y,null);
 	}
 }
\ No newline at end of file
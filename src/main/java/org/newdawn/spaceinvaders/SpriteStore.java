@@ -35,7 +35,32 @@ public class SpriteStore {
 	}
 	
 	/** The cached sprite map, from reference to sprite instance */
-	private HashMap sprites = new HashMap();
+	private HashMap<String, Sprite> sprites = new HashMap<String, Sprite>();
+
+	/** True if sprites should be built without any display (dimensions only) */
+	private boolean headless = GraphicsEnvironment.isHeadless();
+
+	/**
+	 * Switch the store to headless mode. Sprites loaded afterwards only
+	 * carry their dimensions and never touch the graphics environment.
+	 * 
+	 * @param headless True if no display should be used
+	 */
+	public synchronized void setHeadless(boolean headless) {
+		if (this.headless != headless) {
+			this.headless = headless;
+			sprites.clear();
+		}
+	}
+
+	/**
+	 * Check if the store builds headless sprites
+	 * 
+	 * @return True if sprites are created without accelerated images
+	 */
+	public boolean isHeadless() {
+		return headless;
+	}
 	
 	/**
 	 * Retrieve a sprite from the store
@@ -43,11 +68,12 @@ public class SpriteStore {
 	 * @param ref The reference to the image to use for the sprite
 	 * @return A sprite instance containing an accelerate image of the request reference
 	 */
-	public Sprite getSprite(String ref) {
+	public synchronized Sprite getSprite(String ref) {
 		// if we've already got the sprite in the cache
 		// then just return the existing version
-		if (sprites.get(ref) != null) {
-			return (Sprite) sprites.get(ref);
+		Sprite cached = sprites.get(ref);
+		if (cached != null) {
+			return cached;
 		}
 		
 		// otherwise, go away and grab the sprite from the resource
@@ -71,6 +97,18 @@ public class SpriteStore {
 			fail("Failed to load: "+ref);
 		}
 		
+		// the collision mask comes from the source image's alpha channel, so
+		// it is built once here for both headless and accelerated sprites
+		CollisionMask mask = CollisionMask.fromImage(sourceImage);
+		
+		// without a display we only need the dimensions for collisions
+		if (headless) {
+			Sprite sprite = new Sprite(sourceImage.getWidth(),sourceImage.getHeight());
+			sprite.setCollisionMask(mask);
+			sprites.put(ref,sprite);
+			return sprite;
+		}
+		
 		// create an accelerated image of the right size to store our sprite in
 		GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
 		Image image = gc.createCompatibleImage(sourceImage.getWidth(),sourceImage.getHeight(),Transparency.BITMASK);
@@ -80,6 +118,7 @@ public class SpriteStore {
 		
 		// create a sprite, add it the cache then return it
 		Sprite sprite = new Sprite(image);
+		sprite.setCollisionMask(mask);
 		sprites.put(ref,sprite);
 		
 		return sprite;
@@ -1,5 +1,7 @@
 package org.newdawn.spaceinvaders;
 
+import java.util.concurrent.locks.LockSupport;
+
 public final class SystemTimer {
 	/** 고해상도 타이머의 기준 시점(클래스 로딩 순간) */
 	private static final long START_NANOS = System.nanoTime();
@@ -10,7 +12,8 @@ public final class SystemTimer {
 	private SystemTimer() { /* 유틸 클래스 */ }
 
 	/**
-	 * 고해상도 시간(ms)을 반환 (클래스 초기화 이후 경과 시간)
+	 * 고해상도 시간(ms)을 반환 (클래스 초기화 이후 경과 시간).
+	 * 실제 시간 전용: 게임 로직의 시각은 GameClock을 쓴다.
 	 * @return 밀리초 단위의 경과 시간
 	 */
 	public static long getTime() {
@@ -18,6 +21,14 @@ public final class SystemTimer {
 		return (System.nanoTime() - START_NANOS) / 1_000_000L;
 	}
 
+	/**
+	 * 실제 경과 시간(ns)을 반환. 프레임 페이싱용.
+	 * @return 나노초 단위의 경과 시간
+	 */
+	public static long getNanoTime() {
+		return System.nanoTime() - START_NANOS;
+	}
+
 	/**
 	 * 지정 ms 동안 대기
 	 * @param duration 대기 시간(ms)
@@ -41,4 +52,73 @@ public final class SystemTimer {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 목표 프레임레이트에 맞춰 남은 프레임 예산만큼만 대기하는 페이서.
+	 * - 대부분은 parkNanos로 굵게 쉬고, 마지막 SPIN_THRESHOLD_NANOS 구간만 yield 스핀으로 맞춘다
+	 *   (OS 타이머 해상도 때문에 sleep만으로는 1ms 이하 정밀도가 안 나옴)
+	 * - 데드라인을 이미 넘긴 프레임은 쉬지 않고 바로 반환하며 missed 카운트를 올린다
+	 * - 목표 FPS가 0 이하이면 무제한(대기 없음)
+	 */
+	public static final class FramePacer {
+		/** 이 시간(ns) 이하로 남으면 park 대신 yield 스핀 */
+		private static final long SPIN_THRESHOLD_NANOS = 1_000_000L;
+
+		private int  targetFps;
+		private long frameNanos;
+		private long nextDeadline = -1;
+		private long missedDeadlines = 0;
+
+		public FramePacer(int targetFps) {
+			setTargetFps(targetFps);
+		}
+
+		/** 목표 FPS 설정 (0 이하 = 무제한) */
+		public void setTargetFps(int fps) {
+			this.targetFps  = Math.max(0, fps);
+			this.frameNanos = (targetFps > 0) ? 1_000_000_000L / targetFps : 0;
+			this.nextDeadline = -1;
+		}
+
+		public int getTargetFps() { return targetFps; }
+
+		/** 지금까지 놓친(이미 늦은) 프레임 데드라인 수 */
+		public long getMissedDeadlines() { return missedDeadlines; }
+
+		/**
+		 * 프레임 끝에서 호출. 다음 데드라인까지 대기한다.
+		 * @return 데드라인을 지켰으면 true, 이미 늦었으면 false
+		 */
+		public boolean sync() {
+			long now = getNanoTime();
+			if (frameNanos <= 0) {
+				return true;
+			}
+			if (nextDeadline < 0) {
+				nextDeadline = now;
+			}
+			nextDeadline += frameNanos;
+
+			long remaining = nextDeadline - now;
+			if (remaining <= 0) {
+				missedDeadlines++;
+				// 한 프레임 넘게 밀렸으면 기준점을 현재로 재설정 (몰아서 따라잡지 않음)
+				if (-remaining > frameNanos) {
+					nextDeadline = now;
+				}
+				return false;
+			}
+
+			// 1) 굵은 대기: 스핀 구간 직전까지 park
+			while (remaining > SPIN_THRESHOLD_NANOS) {
+				LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+				remaining = nextDeadline - getNanoTime();
+			}
+			// 2) 정밀 대기: 남은 1ms 이하는 yield 스핀
+			while (getNanoTime() < nextDeadline) {
+				Thread.yield();
+			}
+			return true;
+		}
+	}
+}
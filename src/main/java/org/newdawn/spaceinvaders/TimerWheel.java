@@ -0,0 +1,198 @@
+package org.newdawn.spaceinvaders;
+
+import java.util.Arrays;
+
+/**
+ * 계층형 타이머 휠 (1ms 단위, 64칸 x 4단).
+ * - 예약은 만기 시각까지 남은 시간으로 단을 고르고(64ms / 4초 / 4분 / 4.6시간), 칸은 만기 시각 비트로 정한다
+ * - advanceTo()는 지난 ms마다 0단 칸 하나만 보고, 0단이 한 바퀴 돌 때마다 윗단 칸 하나를 아랫단으로 내린다
+ *   → 틱당 비용이 예약된 타이머 수와 무관하다 (만기된 것만 건드림)
+ * - 타이머는 배열 노드(이중 연결 리스트)로 재사용하고, 핸들(세대 << 32 | 번호)로 취소한다
+ *   → 이미 실행/취소된 핸들로 cancel()해도 다른 타이머를 건드리지 않는다
+ * - 같은 ms에 만기된 타이머는 예약 순서대로, 실행 중 새로 예약한 타이머는 빨라도 다음 ms에 실행된다
+ *
+ * 한 스레드(시뮬레이션)에서만 쓴다.
+ */
+public final class TimerWheel {
+
+    /** 만기 때 실행할 동작. arg는 예약할 때 넘긴 값 (엔티티 핸들 등, 람다를 새로 만들지 않게) */
+    @FunctionalInterface
+    public interface Action {
+        void fire(long arg);
+    }
+
+    /** 예약 없음 */
+    public static final long NO_TIMER = 0L;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    /** 맨 윗단이 담을 수 있는 최대 남은 시간 (넘으면 맨 윗단 끝에 두고 내려올 때 다시 정한다) */
+    private static final long MAX_SPAN = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /** 칸별 리스트 머리/꼬리 (level * SLOTS + slot, -1이면 빈 칸). 꼬리에 붙여 예약 순서를 지킨다 */
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private final int[] tails = new int[LEVELS * SLOTS];
+
+    private long[] due = new long[64];
+    private long[] args = new long[64];
+    private Action[] actions = new Action[64];
+    private int[] next = new int[64];
+    private int[] prev = new int[64];
+    /** 노드가 들어 있는 칸 (-1이면 빈 노드) */
+    private int[] bucket = new int[64];
+    private int[] gens = new int[64];
+    private int used = 0;
+    private int freeHead = -1;
+    private int active = 0;
+
+    /** 마지막으로 처리한 시각(ms) */
+    private long current;
+
+    public TimerWheel(long startMs) {
+        this.current = startMs;
+        Arrays.fill(heads, -1);
+        Arrays.fill(tails, -1);
+    }
+
+    public long getCurrentTime() { return current; }
+
+    /** 예약되어 아직 실행/취소되지 않은 타이머 수 */
+    public int size() { return active; }
+
+    /**
+     * dueMs 시각에 action.fire(arg) 예약.
+     * @return 취소용 핸들 (0이 아님)
+     */
+    public long schedule(long dueMs, Action action, long arg) {
+        int id = allocate();
+        due[id] = dueMs;
+        actions[id] = action;
+        args[id] = arg;
+        place(id, current + 1);
+        active++;
+        return ((long) gens[id] << 32) | id;
+    }
+
+    /** @return 아직 대기 중이던 타이머를 취소했으면 true */
+    public boolean cancel(long handle) {
+        if (handle == NO_TIMER) return false;
+        int id = (int) handle;
+        int gen = (int) (handle >>> 32);
+        if (id < 0 || id >= used || gens[id] != gen || bucket[id] < 0) return false;
+        unlink(id);
+        release(id);
+        active--;
+        return true;
+    }
+
+    /** nowMs까지 지난 ms를 차례로 처리하며 만기된 타이머를 실행 */
+    public void advanceTo(long nowMs) {
+        if (active == 0) {
+            current = Math.max(current, nowMs);
+            return;
+        }
+        while (current < nowMs) {
+            long t = ++current;
+            // 0단이 한 바퀴 돌았으면 윗단 칸을 내린다 (윗단부터)
+            if ((t & SLOT_MASK) == 0) {
+                cascade(t);
+            }
+            int b = (int) (t & SLOT_MASK);
+            int id;
+            while ((id = heads[b]) != -1) {
+                unlink(id);
+                if (due[id] > t) {
+                    place(id, current + 1);   // 범위를 넘겨 맨 윗단 끝에 있던 타이머
+                    continue;
+                }
+                Action a = actions[id];
+                long arg = args[id];
+                release(id);
+                active--;
+                a.fire(arg);
+            }
+            if (active == 0) {
+                current = Math.max(current, nowMs);
+                return;
+            }
+        }
+    }
+
+    /** t에서 한 바퀴를 넘긴 단마다, 그 단의 다음 칸 타이머를 남은 시간에 맞는 단으로 다시 넣는다 */
+    private void cascade(long t) {
+        int top = 1;
+        while (top < LEVELS - 1 && ((t >>> (SLOT_BITS * top)) & SLOT_MASK) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            int b = level * SLOTS + (int) ((t >>> (SLOT_BITS * level)) & SLOT_MASK);
+            int id;
+            while ((id = heads[b]) != -1) {
+                unlink(id);
+                place(id, t);   // 만기가 t면 바로 이어서 처리할 0단 칸으로
+            }
+        }
+    }
+
+    /** 남은 시간으로 단을, 만기 시각 비트로 칸을 정해 넣는다 (earliest보다 이른 만기는 earliest 칸) */
+    private void place(int id, long earliest) {
+        long when = Math.max(due[id], earliest);
+        long delta = when - current;
+        if (delta > MAX_SPAN) {
+            when = current + MAX_SPAN;
+            delta = MAX_SPAN;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int b = level * SLOTS + (int) ((when >>> (SLOT_BITS * level)) & SLOT_MASK);
+        int tail = tails[b];
+        prev[id] = tail;
+        next[id] = -1;
+        if (tail != -1) next[tail] = id; else heads[b] = id;
+        tails[b] = id;
+        bucket[id] = b;
+    }
+
+    private void unlink(int id) {
+        int b = bucket[id];
+        int p = prev[id], n = next[id];
+        if (p != -1) next[p] = n; else heads[b] = n;
+        if (n != -1) prev[n] = p; else tails[b] = p;
+        bucket[id] = -1;
+    }
+
+    private int allocate() {
+        if (freeHead != -1) {
+            int id = freeHead;
+            freeHead = next[id];
+            return id;
+        }
+        if (used == due.length) {
+            int c = used * 2;
+            due = Arrays.copyOf(due, c);
+            args = Arrays.copyOf(args, c);
+            actions = Arrays.copyOf(actions, c);
+            next = Arrays.copyOf(next, c);
+            prev = Arrays.copyOf(prev, c);
+            bucket = Arrays.copyOf(bucket, c);
+            gens = Arrays.copyOf(gens, c);
+        }
+        int id = used++;
+        gens[id] = 1;
+        bucket[id] = -1;
+        return id;
+    }
+
+    private void release(int id) {
+        actions[id] = null;
+        bucket[id] = -1;
+        gens[id]++;
+        if (gens[id] == 0) gens[id] = 1;   // 핸들이 0(NO_TIMER)이 되지 않게
+        next[id] = freeHead;
+        freeHead = id;
+    }
+}
@@ -1,8 +1,10 @@
 package org.newdawn.spaceinvaders;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.newdawn.spaceinvaders.entity.*;
 
@@ -21,9 +23,116 @@ public class World {
     private final List<Entity> removeList;
     private final SpawnManager spawnManager;
     private final Random rng = new Random();
+    /** 스폰 시각/수명 정리 기준 시계 (컨텍스트가 없으면 자체 시계) */
+    private final GameClock clock;
+    /** 시계를 직접 만들었으면(게임 화면 없이 쓸 때) 타이머도 World가 이동 단계에서 돌린다 */
+    private final boolean ownsClock;
+    /** 엔티티 만료 시각이 바뀌면 타이머를 다시 건다 (엔티티마다 람다를 만들지 않게 하나만) */
+    private final Entity.ExpiryListener expiryListener = this::scheduleExpiry;
+    /** 만료 타이머 동작 (arg = 엔티티 핸들) */
+    private final TimerWheel.Action expireAction = this::onExpiryTimer;
 
     private boolean logicRequiredThisLoop = false;
 
+    // ===== 충돌 broad phase (균일 격자) =====
+    /** 격자 셀 크기(px) — 가장 큰 일반 스프라이트(보스 제외) 정도 */
+    private static final int COLLISION_CELL_SIZE = 64;
+    private final SpatialGrid collisionGrid =
+            new SpatialGrid(Game.VIRTUAL_WIDTH, Game.VIRTUAL_HEIGHT, COLLISION_CELL_SIZE);
+    private boolean spatialBroadPhase = true;
+    /** 충돌 단계마다 scratch에서 받는 경계(픽셀, 양끝 포함)와 격자 포함 여부 — 그 틱 동안만 유효 */
+    private int[] boundsMinX;
+    private int[] boundsMinY;
+    private int[] boundsMaxX;
+    private int[] boundsMaxY;
+    private int[] inGrid;
+    /** inGrid 값: 판정 제외 / 격자에 들어감 / 편대 외계인(격자 밖, 질의만) */
+    private static final int NOT_IN_GRID = 0;
+    private static final int IN_GRID = 1;
+    private static final int FORMATION_ONLY = 2;
+    /** gatherCandidates 결과 (재사용) */
+    private int[] candidates = new int[64];
+
+    // ===== 병렬 narrow phase =====
+    private boolean parallelNarrowPhase = false;
+    /**
+     * 후보 쌍이 이보다 적으면 스레드 분배 비용이 더 커서 그냥 순차 판정.
+     * 보통 게임 장면은 한 틱에 후보 쌍이 수십 개라, 켜 두어도 대량 장면에서만 병렬로 돈다.
+     */
+    private int parallelNarrowPhaseThreshold = 1024;
+    /** 병렬 판정을 실제로 돈 횟수 (테스트에서 병렬 경로를 탔는지 확인용) */
+    private long parallelNarrowPhaseRuns = 0;
+    private ParallelNarrowPhase narrowPhase;
+    private long[] candidatePairs = new long[256];
+
+    // ===== 공간 질의 (폭탄/레이저/블랙홀) =====
+    private static final int QUERY_CELL_SIZE = 64;
+    /** 폭탄/레이저가 지우거나 피해를 주는 대상 */
+    private static final int BLAST_TARGETS =
+            Entity.kindBit(Entity.KIND_ALIEN) | Entity.kindBit(Entity.KIND_ALIEN_SHOT)
+            | Entity.kindBit(Entity.KIND_ASTEROID) | Entity.kindBit(Entity.KIND_BOSS);
+    /**
+     * 엔티티 중심점(영역이 있으면 영역 사각형) 격자 (id = 목록 자리).
+     * 이동/로직/충돌 처리/추가/제거 때 그 엔티티의 셀 범위만 다시 계산해, 바뀌었을 때만 옮긴다.
+     */
+    private final SpatialGrid queryGrid =
+            new SpatialGrid(Game.VIRTUAL_WIDTH, Game.VIRTUAL_HEIGHT, QUERY_CELL_SIZE);
+    private int[] queryKinds = new int[64];
+    /** 자리별로 지금 색인에 들어 있는 셀 범위 (자리 * 4 + 0..3 = c0, r0, c1, r1) */
+    private int[] queryCells = new int[256];
+    /** 목록이 밖에서 바뀌어(테스트 등) 다음 질의 때 처음부터 다시 만들어야 함 */
+    private boolean queryIndexStale = true;
+    /** 틱 동안만 쓰는 질의 결과 목록/경계 배열 (flushRemovals()에서 한꺼번에 돌려받음) */
+    private final FrameScratch scratch = new FrameScratch();
+
+    // ===== 종류별 목록 =====
+    private final KindIndex kinds = new KindIndex();
+
+    // ===== 세대 핸들 + 틱 중 구조 변경 명령 버퍼 =====
+    private final HandleTable handles = new HandleTable();
+    /** 0보다 크면 목록을 훑는 단계(이동/충돌/로직) 중 → 추가는 spawnQueue로 미룬다 */
+    private int phaseDepth = 0;
+    private final List<Entity> spawnQueue = new ArrayList<>();
+    /** removeList와 같은 순서로, 제거 예약 당시의 핸들 */
+    private long[] removeHandles = new long[64];
+    private int removeHandleCount = 0;
+
+    // ===== 외계인 편대 =====
+    private AlienFormation formation;
+
+    // ===== 병렬 이동 =====
+    private boolean parallelMove = false;
+    /**
+     * 엔티티 수가 이 값 이상일 때만 병렬 이동 (적으면 작업 분배 비용이 더 큼).
+     * 실제 게임에서는 종류별 수가 LEAF_SIZE를 넘는 일이 드물어 켜도 대부분 순차로 돈다.
+     */
+    private int parallelMoveThreshold = 2048;
+    private long parallelMoveRuns = 0;
+    private ParallelMovePhase movePhase;
+    /** 이번 틱 병렬 이동 여부 (moveAll 시작 때 정함) */
+    private boolean parallelMoveThisTick = false;
+    /**
+     * 병렬로 움직여도 되는 종류: move()가 자기 상태만 바꾸고, 밖으로는
+     * removeEntity/requestLogicUpdate만 부르는 것들.
+     * 배(입력 상태), 보스(발사), 폭탄(폭발 질의), 레이저(빔 판정), 그 밖(알 수 없음)은 순차.
+     */
+    private static final boolean[] PARALLEL_MOVE_KINDS = new boolean[Entity.KIND_COUNT];
+    static {
+        PARALLEL_MOVE_KINDS[Entity.KIND_ALIEN]       = true;
+        PARALLEL_MOVE_KINDS[Entity.KIND_SHOT]        = true;
+        PARALLEL_MOVE_KINDS[Entity.KIND_ALIEN_SHOT]  = true;
+        PARALLEL_MOVE_KINDS[Entity.KIND_ASTEROID]    = true;
+        PARALLEL_MOVE_KINDS[Entity.KIND_BLACK_HOLE]  = true;
+    }
+
+    // ===== 자주 생기고 사라지는 엔티티 풀 =====
+    private final EntityPool<ShotEntity> shotPool;
+    private final EntityPool<AlienShotEntity> alienShotPool;
+    private final EntityPool<BombEntity> bombPool;
+    private final EntityPool<LaserEntity> laserPool;
+    /** 엔티티 원형 (스프라이트/크기/기본 속도를 미리 찾아 둠) */
+    private PrefabRegistry prefabs;
+
     public World(GameContext game,
                  List<Entity> sharedEntities,
                  List<Entity> sharedRemoveList,
@@ -32,6 +141,19 @@ public class World {
         this.entities = sharedEntities;
         this.removeList = sharedRemoveList;
         this.spawnManager = spawnManager;
+        GameClock c = (game != null) ? game.getClock() : null;
+        this.ownsClock = (c == null);
+        this.clock = ownsClock ? new GameClock() : c;
+        this.shotPool      = new EntityPool<>(() -> new ShotEntity(game, prefab(PrefabRegistry.SHOT), 0, 0));
+        this.alienShotPool = new EntityPool<>(() -> new AlienShotEntity(game, prefab(PrefabRegistry.ALIEN_SHOT), 0, 0));
+        this.bombPool      = new EntityPool<>(() -> new BombEntity(game, prefab(PrefabRegistry.BOMB), 0, 0));
+        this.laserPool     = new EntityPool<>(() -> LaserEntity.createDropItem(game, prefab(PrefabRegistry.LASER_ITEM), 0, 0));
+        reindexKinds();
+    }
+
+    /** 외부 난수 없이 부른 스폰/사격용 스트림을 런 시드로 다시 맞춘다 */
+    public void setRandomSeed(long seed) {
+        rng.setSeed(RandomStreams.seedFor(seed, RandomStreams.WORLD));
     }
 
     // ===== 공용 접근 =====
@@ -39,86 +161,773 @@ public class World {
         return entities;
     }
 
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /** 스폰에 쓸 레벨 원형 모음 (PlayScreen이 런 시작 때 넣는다) */
+    public void setPrefabs(PrefabRegistry prefabs) {
+        this.prefabs = prefabs;
+    }
+
+    /** 원형 (레지스트리를 안 넣었으면 1레벨 기본값을 처음 쓸 때 만든다) */
+    private Prefab prefab(int id) {
+        if (prefabs == null) {
+            prefabs = PrefabRegistry.forLevel(1, PrefabRegistry.DEFAULT_SHIP_SPRITE);
+        }
+        return prefabs.get(id);
+    }
+
+    /** 틱 동안만 쓰는 임시 버퍼 (질의 결과 등 — moveAll()/handleCollisions() 시작과 flushRemovals()에서 돌려받는다) */
+    public FrameScratch getScratch() {
+        return scratch;
+    }
+
+    /**
+     * 엔티티 추가. 이동/충돌/로직 단계 도중에 부르면 명령 버퍼에 쌓였다가
+     * flushRemovals()에서 들어간다 (그동안 목록/종류별 수/질의에는 안 보임).
+     * 핸들은 바로 붙으므로 스폰한 쪽이 곧바로 handleOf()로 잡아 둘 수 있다.
+     */
     public void addEntity(Entity e) {
+        handles.allocate(e);
+        if (phaseDepth > 0) {
+            spawnQueue.add(e);
+            return;
+        }
+        insertNow(e);
+    }
+
+    private void insertNow(Entity e) {
+        syncKinds();
+        if (inList(e)) return;   // 이미 들어 있음
+        e.markSpawned(clock.now());
+        e.setWorldSlot(entities.size());
         entities.add(e);
+        kinds.add(e);
+        attachExpiry(e);
+        insertQueryCells(e);
     }
 
+    // ===== 만료 타이머 =====
+
+    /** 만료 시각 변경을 듣기 시작하고, 만료 시각/최대 수명이 있으면 타이머를 건다 */
+    private void attachExpiry(Entity e) {
+        e.setExpiryListener(expiryListener);
+        scheduleExpiry(e);
+    }
+
+    /**
+     * 개별 만료 시각과 종류별 최대 수명 중 이른 쪽에 타이머를 건다.
+     * 만료 시각이 늦춰져 이전 타이머가 먼저 울리면 onExpiryTimer가 다시 확인하고 넘긴다
+     * (취소 대신 지연 확인 — 엔티티마다 타이머 핸들을 들고 있지 않아도 된다).
+     */
+    private void scheduleExpiry(Entity e) {
+        long due = e.getExpireAt();
+        CullPolicy p = e.getCullPolicy();
+        if (p != null && p.maxLifetimeMs > 0) {
+            long lifetimeEnd = e.getSpawnTime() + p.maxLifetimeMs;
+            due = (due == 0) ? lifetimeEnd : Math.min(due, lifetimeEnd);
+        }
+        if (due == 0 || e.getHandle() == Entity.NO_HANDLE) return;
+        clock.getTimers().schedule(due, expireAction, e.getHandle());
+    }
+
+    private void onExpiryTimer(long handle) {
+        Entity e = handles.resolve(handle);
+        if (e == null || e.isRemoved()) return;   // 이미 제거됐거나 풀에서 재사용됨
+        long now = clock.now();
+        long expireAt = e.getExpireAt();
+        CullPolicy p = e.getCullPolicy();
+        if ((expireAt != 0 && now >= expireAt)
+                || (p != null && p.maxLifetimeMs > 0 && now - e.getSpawnTime() >= p.maxLifetimeMs)) {
+            removeEntity(handle);
+        }
+    }
+
+    /**
+     * 외계인 편대 등록. 편대 외계인은 편대가 한 번에 움직이고(가장자리/방향 전환 포함),
+     * 충돌 격자 대신 편대의 칸 계산으로 후보를 찾으며, 제거될 때 편대에 알린다.
+     * 외계인 엔티티 자체는 따로 addEntity 해야 한다.
+     */
+    public void setAlienFormation(AlienFormation f) {
+        this.formation = f;
+    }
+
+    public AlienFormation getAlienFormation() {
+        return formation;
+    }
+
+    /** 엔티티의 세대 핸들 (World에 없으면 Entity.NO_HANDLE) */
+    public long handleOf(Entity e) {
+        return e.getHandle();
+    }
+
+    /** 핸들이 가리키는 엔티티 (이미 제거됐거나 풀에서 다른 용도로 재사용됐으면 null) */
+    public Entity resolve(long handle) {
+        return handles.resolve(handle);
+    }
+
+    /** 해당 종류의 살아 있는 엔티티 수 (제거 예약된 것은 다음 flush까지 포함, 미뤄진 추가는 제외) */
+    public int countOf(int kind) {
+        syncKinds();
+        return kinds.count(kind);
+    }
+
+    /** 해당 종류의 i번째 엔티티 (순서는 추가 순서와 다를 수 있음) */
+    public Entity getOfKind(int kind, int i) {
+        return kinds.get(kind, i);
+    }
+
+    /** 해당 종류의 첫 엔티티 (배/보스처럼 하나뿐인 종류용, 없으면 null) */
+    public Entity firstOf(int kind) {
+        syncKinds();
+        return (kinds.count(kind) > 0) ? kinds.get(kind, 0) : null;
+    }
+
+    /** 목록에 직접 추가된 엔티티가 있으면(테스트 등) 종류별 목록/자리 번호/핸들을 다시 만든다 */
+    private void syncKinds() {
+        if (kinds.total() != entities.size()) {
+            reindexKinds();
+        }
+    }
+
+    private void reindexKinds() {
+        kinds.clear();
+        for (int i = 0; i < entities.size(); i++) {
+            Entity e = entities.get(i);
+            e.setWorldSlot(i);
+            handles.allocate(e);
+            kinds.add(e);
+            if (e.getExpiryListener() != expiryListener) {
+                attachExpiry(e);
+            }
+        }
+        queryIndexStale = true;
+    }
+
+    /**
+     * 제거 예약. 실제 제거는 flushRemovals()에서 (중복 예약은 한 번만 처리).
+     * 이번 틱에 받은 참조(충돌 상대, 질의 결과, 자기 자신)용이다. 참조는 지금 들어 있는 쪽의
+     * 핸들로 예약되므로, 틱을 넘겨 들고 있던 참조는 풀에서 재사용된 새 엔티티를 가리킬 수 있다
+     * → 그런 대상은 removeEntity(long)로 지운다.
+     */
     public void removeEntity(Entity e) {
+        if (movePhase != null && movePhase.recordRemove(e)) {
+            return;   // 병렬 이동 중: 끝나고 순서대로 다시 예약된다
+        }
+        e.markRemoved();   // 이번 틱 남은 이동/충돌/그리기에서 바로 빠진다
+        if (removeHandleCount == removeHandles.length) {
+            removeHandles = Arrays.copyOf(removeHandles, removeHandleCount * 2);
+        }
         removeList.add(e);
+        removeHandles[removeHandleCount++] = e.getHandle();
+    }
+
+    /**
+     * 핸들로 제거 예약. 핸들이 이미 무효(제거됐거나 풀에서 다른 용도로 재사용됨)면 아무것도 하지 않는다.
+     * @return 예약했으면 true
+     */
+    public boolean removeEntity(long handle) {
+        Entity e = handles.resolve(handle);
+        if (e == null) return false;
+        removeEntity(e);
+        return true;
     }
 
     public void requestLogicUpdate() {
+        if (movePhase != null && movePhase.recordLogicRequest()) {
+            return;
+        }
         logicRequiredThisLoop = true;
     }
 
+    /**
+     * 병렬 이동 사용 여부. 켜면 엔티티 수가 임계값 이상인 틱에서 총알/외계인/유성/블랙홀의
+     * move()를 ForkJoinPool로 나눠 돌린다 (결과/제거 순서는 순차와 같음)
+     */
+    public void setParallelMove(boolean on) {
+        this.parallelMove = on;
+    }
+
+    /** 병렬 이동을 시작할 엔티티 수 (0이면 켜져 있을 때 항상 병렬) */
+    public void setParallelMoveThreshold(int entityCount) {
+        this.parallelMoveThreshold = Math.max(0, entityCount);
+    }
+
+    long getParallelMoveRuns() {
+        return parallelMoveRuns;
+    }
+
+    /**
+     * 지금 상태의 해시: 목록 순서대로 종류/위치/속도(비트 그대로)와 편대 상태를 섞는다.
+     * 같은 시드/입력으로 돌린 두 런(또는 최적화 경로와 기본 경로)이 틱마다 같은지 싸게 비교하는 용도.
+     * 제거 예약된 엔티티도 flush 전까지는 목록에 있으므로 그대로 포함한다.
+     */
+    public long stateHash() {
+        long h = 0xCBF29CE484222325L;
+        h = mixHash(h, entities.size());
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            Entity e = entities.get(i);
+            h = mixHash(h, e.getKind());
+            h = mixHash(h, Double.doubleToLongBits(e.getExactX()));
+            h = mixHash(h, Double.doubleToLongBits(e.getExactY()));
+            h = mixHash(h, Double.doubleToLongBits(e.getHorizontalMovement()));
+            h = mixHash(h, Double.doubleToLongBits(e.getVerticalMovement()));
+        }
+        if (formation != null) {
+            h = mixHash(h, formation.getAliveCount());
+            h = mixHash(h, Double.doubleToLongBits(formation.getVelocityX()));
+        }
+        return h;
+    }
+
+    private static long mixHash(long h, long v) {
+        h ^= v;
+        h *= 0x100000001B3L;
+        return h ^ (h >>> 29);
+    }
+
     // ===== 프레임 단위 이동 =====
     public void moveAll(long delta) {
+        // 틱 시작: 지난 틱 임시 버퍼를 돌려받는다 (flushRemovals를 부르지 않는 호출자도 버퍼가 쌓이지 않게)
+        if (phaseDepth == 0) {
+            scratch.reset();
+        }
+        phaseDepth++;
+        try {
+            moveAllByKind(delta);
+            if (ownsClock) {
+                clock.runTimers();
+            }
+            cullOffscreen(clock.now());
+        } finally {
+            phaseDepth--;
+        }
+    }
+
+    /**
+     * 화면 밖 정리: 종류별 규칙(CullPolicy)의 영역을 벗어난 엔티티를 유예 시간 뒤 제거 예약한다.
+     * 이동 직후에 돌아서, 예전에 각 클래스가 move 끝에서 스스로 지우던 것과 같은 틱에 빠진다.
+     * 만료 시각/최대 수명은 위치와 무관하므로 여기서 매 틱 훑지 않고 시계의 타이머로 처리한다.
+     */
+    private void cullOffscreen(long now) {
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            Entity e = entities.get(i);
+            if (e.isRemoved()) continue;
+
+            CullPolicy p = e.getCullPolicy();
+            if (p == null) continue;
+
+            if (p.isOutside(e.getExactX(), e.getExactY())) {
+                if (p.graceMs <= 0) {
+                    removeEntity(e);
+                } else if (e.getOutsideSince() < 0) {
+                    e.setOutsideSince(now);
+                } else if (now - e.getOutsideSince() >= p.graceMs) {
+                    removeEntity(e);
+                }
+            } else if (e.getOutsideSince() >= 0) {
+                e.setOutsideSince(-1);
+            }
+        }
+    }
+
+    private void moveAllByKind(long delta) {
+        // 렌더 보간용: 이번 틱 이동 전 위치를 먼저 저장
         for (int i = 0; i < entities.size(); i++) {
-            entities.get(i).move(delta);
+            entities.get(i).storePreviousPosition();
+        }
+        syncKinds();
+        parallelMoveThisTick = parallelMove && entities.size() >= parallelMoveThreshold;
+
+        // 종류별로 따로 돌려 각 호출 지점이 한 클래스만 보게 한다 (JIT 인라인).
+        // 배 → 외계인 → 플레이어 총알 → 그 밖(보스/폭탄/레이저/유성/블랙홀) → 적 총알 순서:
+        // 빔이 읽는 배 위치는 먼저 갱신된다. 이동 중 스폰(보스 총알 등)은 명령 버퍼에 쌓여
+        // 틱 끝에 들어가므로, 루프 도중 종류별 목록 길이는 바뀌지 않는다.
+        // 움직인 엔티티는 바로 질의 색인 칸을 고치므로, 이동 중 질의(레이저 빔 등)도 지금까지 움직인 위치를 본다.
+        // 병렬 이동이 켜진 틱에는 수가 많은 종류를 통째로 나눠 돌린다 (종류 사이 순서는 그대로).
+        for (int i = 0; i < kinds.count(Entity.KIND_SHIP); i++) {
+            Entity e = kinds.get(Entity.KIND_SHIP, i);
+            if (e.isRemoved()) continue;
+            e.move(delta);
+            updateQueryCells(e);
+        }
+        if (formation != null) {
+            formation.move(delta);   // 편대 외계인의 move()는 여기서 정한 칸 위치만 읽는다
         }
+        if (!moveKindInParallel(Entity.KIND_ALIEN, delta)) {
+            for (int i = 0; i < kinds.count(Entity.KIND_ALIEN); i++) {
+                Entity e = kinds.get(Entity.KIND_ALIEN, i);
+                if (e.isRemoved()) continue;   // 이번 틱에 이미 제거 예약됨
+                e.move(delta);
+                updateQueryCells(e);
+            }
+        }
+        if (!moveKindInParallel(Entity.KIND_SHOT, delta)) {
+            for (int i = 0; i < kinds.count(Entity.KIND_SHOT); i++) {
+                Entity e = kinds.get(Entity.KIND_SHOT, i);
+                if (e.isRemoved()) continue;   // 이번 틱에 이미 제거 예약됨
+                e.move(delta);
+                updateQueryCells(e);
+            }
+        }
+        for (int k = 0; k < MIXED_MOVE_ORDER.length; k++) {
+            int kind = MIXED_MOVE_ORDER[k];
+            if (moveKindInParallel(kind, delta)) continue;
+            for (int i = 0; i < kinds.count(kind); i++) {
+                Entity e = kinds.get(kind, i);
+                if (e.isRemoved()) continue;   // 이번 틱에 이미 제거 예약됨
+                e.move(delta);
+                updateQueryCells(e);
+            }
+        }
+        if (!moveKindInParallel(Entity.KIND_ALIEN_SHOT, delta)) {
+            for (int i = 0; i < kinds.count(Entity.KIND_ALIEN_SHOT); i++) {
+                Entity e = kinds.get(Entity.KIND_ALIEN_SHOT, i);
+                if (e.isRemoved()) continue;   // 이번 틱에 이미 제거 예약됨
+                e.move(delta);
+                updateQueryCells(e);
+            }
+        }
+    }
+
+    /**
+     * 한 종류를 병렬로 이동 (이번 틱 병렬 모드가 아니거나, 순차 전용 종류이거나, 수가 적으면 false).
+     * 이동 중 제거 예약/로직 요청은 작업 스레드 버퍼에 모였다가 여기서 목록 순서대로 적용되므로
+     * removeList 순서까지 순차 루프와 같다.
+     */
+    private boolean moveKindInParallel(int kind, long delta) {
+        int n = kinds.count(kind);
+        // 임계값 0은 검증용 강제 모드: 조각 하나짜리 종류도 병렬 경로로 보낸다
+        boolean small = parallelMoveThreshold > 0 && n <= ParallelMovePhase.LEAF_SIZE;
+        if (!parallelMoveThisTick || !PARALLEL_MOVE_KINDS[kind] || n == 0 || small) {
+            return false;
+        }
+        if (movePhase == null) {
+            movePhase = new ParallelMovePhase(ForkJoinPool.commonPool());
+        }
+        parallelMoveRuns++;
+        int removed = movePhase.run(kinds.array(kind), n, delta);
+        Entity[] removals = movePhase.getRemovals();
+        for (int k = 0; k < removed; k++) {
+            removeEntity(removals[k]);
+            removals[k] = null;
+        }
+        if (movePhase.isLogicRequested()) {
+            logicRequiredThisLoop = true;
+        }
+        Entity[] moved = kinds.array(kind);
+        for (int i = 0; i < n; i++) {
+            updateQueryCells(moved[i]);
+        }
+        return true;
     }
 
+    /** 수가 적은 종류들 (한 루프에서 처리) */
+    private static final int[] MIXED_MOVE_ORDER = {
+            Entity.KIND_BOSS, Entity.KIND_BOMB, Entity.KIND_LASER,
+            Entity.KIND_ASTEROID, Entity.KIND_BLACK_HOLE, Entity.KIND_OTHER
+    };
+
+    /** broad phase 사용 여부 (false면 기존 전체 쌍 비교) */
+    public void setSpatialBroadPhase(boolean on) {
+        this.spatialBroadPhase = on;
+    }
+
+    /** 후보 쌍 판정을 ForkJoinPool로 나눠 돌릴지 (결과/처리 순서는 순차와 같음) */
+    public void setParallelNarrowPhase(boolean on) {
+        this.parallelNarrowPhase = on;
+    }
+
+    /** 병렬 판정을 시작할 후보 쌍 수 (0이면 켜져 있을 때 항상 병렬) */
+    public void setParallelNarrowPhaseThreshold(int pairs) {
+        this.parallelNarrowPhaseThreshold = Math.max(0, pairs);
+    }
+
+    long getParallelNarrowPhaseRuns() {
+        return parallelNarrowPhaseRuns;
+    }
+
+    /**
+     * 충돌 처리. 공간 해시로 같은 셀에 걸친 쌍만 collidesWith까지 보낸다.
+     * 쌍 순서는 기존 이중 루프와 같다 (i 오름차순, 그 안에서 j 오름차순, j > i).
+     * 루프 중 추가된 엔티티(드롭 아이템 등)는 명령 버퍼에 쌓였다가 틱 끝에 들어간다.
+     * 서로 반응하지 않는 레이어 쌍(외계인끼리 등)은 사각형 판정 전에 걸러내고,
+     * 맞닿은 쌍은 CollisionMatrix의 레이어 쌍별 처리기로 넘긴다.
+     */
     public void handleCollisions() {
+        // 충돌만 따로 반복해 돌리는 호출자(테스트/교차 확인)도 버퍼가 쌓이지 않게
+        if (phaseDepth == 0) {
+            scratch.reset();
+        }
+        if (!spatialBroadPhase) {
+            handleCollisionsBruteForce();
+            return;
+        }
+        phaseDepth++;
+        try {
+            handleCollisionsSpatial();
+        } finally {
+            phaseDepth--;
+        }
+    }
+
+    private void handleCollisionsSpatial() {
         int size = entities.size();
+        takeBoundsBuffers(size);
+        collisionGrid.clear();
+        collisionGrid.ensureIdCapacity(size);
+
+        // 1) 격자 재구성: 충돌 가능한 엔티티의 픽셀 범위(양끝 포함)를 기록
+        buildBroadPhaseFromEntities(size);
+
+        if (parallelNarrowPhase) {
+            handleCandidatesParallel(size);
+        } else {
+            // 2) 같은 셀에 걸친(편대 외계인은 편대 칸이 겹치는) j > i 후보만 좁은 판정
+            for (int i = 0; i < size; i++) {
+                if (inGrid[i] == NOT_IN_GRID) continue;
+
+                int n = gatherCandidates(i, size);
+                for (int k = 0; k < n; k++) {
+                    // 레이어는 앞선 충돌로 바뀔 수 있으므로(폭탄 폭발 등) 쌍마다 다시 읽는다
+                    if (!CollisionMatrix.canInteract(layerOf(i), layerOf(candidates[k]))) continue;
+                    dispatchIfTouching(i, candidates[k]);
+                }
+            }
+        }
+    }
+
+    /**
+     * i와 판정할 j > i 후보를 오름차순으로 candidates에 모은다.
+     * 격자 항목은 격자에서, 편대 외계인은 편대 칸 계산으로 찾아 한 목록으로 합치므로
+     * 편대가 있어도 처리 순서는 전체 쌍 루프(i 오름차순, 그 안에서 j 오름차순)와 같다.
+     * 편대 외계인이 앞 slot(i)인 쌍은 외계인 경계로 격자를 질의해 찾는다.
+     */
+    private int gatherCandidates(int i, int size) {
+        int n = collisionGrid.gather(i, boundsMinX[i], boundsMinY[i], boundsMaxX[i], boundsMaxY[i]);
+        if (candidates.length < n) {
+            candidates = new int[Math.max(n, candidates.length * 2)];
+        }
+        System.arraycopy(collisionGrid.getFound(), 0, candidates, 0, n);
+
+        // 외계인끼리는 반응하지 않으므로 편대 칸은 격자 항목 쪽에서만 본다
+        if (inGrid[i] != IN_GRID || formation == null
+                || !CollisionMatrix.canInteract(layerOf(i), Entity.LAYER_ALIEN)) {
+            return n;
+        }
+        int gridCount = n;
+        int m = formation.gather(boundsMinX[i], boundsMinY[i], boundsMaxX[i], boundsMaxY[i]);
+        AlienEntity[] found = formation.getFound();
+        for (int k = 0; k < m; k++) {
+            int j = found[k].getWorldSlot();
+            if (j <= i || j >= size || entities.get(j) != found[k] || inGrid[j] != FORMATION_ONLY) continue;
+            if (n == candidates.length) {
+                candidates = Arrays.copyOf(candidates, n * 2);
+            }
+            candidates[n++] = j;
+        }
+        if (n > gridCount) {
+            Arrays.sort(candidates, 0, n);
+        }
+        return n;
+    }
+
+    /** 편대가 직접 판정하는 외계인인지 (격자에 넣지 않음) */
+    private boolean inFormation(Entity e) {
+        return formation != null && e.getKind() == Entity.KIND_ALIEN && formation.contains(e);
+    }
+
+    /** 충돌 레이어 (앞선 처리로 바뀔 수 있으므로 캐시하지 않는다) */
+    private int layerOf(int slot) {
+        return entities.get(slot).getCollisionLayer();
+    }
+
+    /** 엔티티 객체에서 바로 격자 재구성 */
+    private void buildBroadPhaseFromEntities(int size) {
         for (int i = 0; i < size; i++) {
-            Entity me = entities.get(i);
-            for (int j = i + 1; j < size; j++) {
-                Entity other = entities.get(j);
-                if (me.collidesWith(other)) {
-                    me.collidedWith(other);
-                    other.collidedWith(me);
+            Entity e = entities.get(i);
+            int w = e.getWidth();
+            int h = e.getHeight();
+            if (!e.hasCollisionBounds() || w <= 0 || h <= 0
+                    || e.getCollisionLayer() == Entity.LAYER_NONE || e.isRemoved()) {
+                inGrid[i] = NOT_IN_GRID;
+                continue;
+            }
+            // 이번 틱 이동 경로 전체를 덮는 범위로 넣어야 swept 판정 후보가 빠지지 않는다
+            boundsMinX[i] = e.getSweptMinX();
+            boundsMinY[i] = e.getSweptMinY();
+            boundsMaxX[i] = e.getSweptMaxX();
+            boundsMaxY[i] = e.getSweptMaxY();
+            if (inFormation(e)) {
+                // 편대 외계인은 격자에 넣지 않고 자기 경계로 질의만 한다
+                inGrid[i] = FORMATION_ONLY;
+                continue;
+            }
+            inGrid[i] = IN_GRID;
+            collisionGrid.insert(i, boundsMinX[i], boundsMinY[i], boundsMaxX[i], boundsMaxY[i]);
+        }
+    }
+
+    /**
+     * 병렬 모드: 후보 쌍을 모두 모은 뒤 collidesWith만 작업 스레드에서 돌리고,
+     * 맞닿은 쌍은 (i, j) 순으로 정렬해 메인 스레드에서 처리한다.
+     * 처리 직전에 레이어/판정을 다시 확인하므로, 앞선 처리로 상태가 바뀐 쌍
+     * (폭발한 폭탄, 이미 쓴 총알 등)은 순차 모드와 똑같이 걸러진다.
+     */
+    private void handleCandidatesParallel(int size) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (inGrid[i] == NOT_IN_GRID) continue;
+            int layer = layerOf(i);
+
+            int n = gatherCandidates(i, size);
+            for (int k = 0; k < n; k++) {
+                if (!CollisionMatrix.canInteract(layer, layerOf(candidates[k]))) continue;
+                if (count == candidatePairs.length) {
+                    candidatePairs = Arrays.copyOf(candidatePairs, count * 2);
                 }
+                candidatePairs[count++] = ParallelNarrowPhase.pack(i, candidates[k]);
             }
         }
+
+        if (count == 0 || count < parallelNarrowPhaseThreshold) {
+            for (int k = 0; k < count; k++) {
+                long p = candidatePairs[k];
+                dispatchIfTouching(ParallelNarrowPhase.first(p), ParallelNarrowPhase.second(p));
+            }
+            return;
+        }
+
+        parallelNarrowPhaseRuns++;
+        if (narrowPhase == null) {
+            narrowPhase = new ParallelNarrowPhase(ForkJoinPool.commonPool());
+        }
+        int contactCount = narrowPhase.run(entities, candidatePairs, count);
+        long[] contacts = narrowPhase.getContacts();
+        for (int k = 0; k < contactCount; k++) {
+            long p = contacts[k];
+            dispatchIfTouching(ParallelNarrowPhase.first(p), ParallelNarrowPhase.second(p));
+        }
+    }
+
+    /** 레이어를 다시 확인하고 맞닿아 있으면 처리 */
+    private void dispatchIfTouching(int i, int j) {
+        if (!CollisionMatrix.canInteract(layerOf(i), layerOf(j))) return;
+        Entity me    = entities.get(i);
+        Entity other = entities.get(j);
+        // 앞선 처리에서 제거 예약된 쪽(이미 맞은 외계인 등)은 더 판정하지 않는다
+        if (me.isRemoved() || other.isRemoved()) return;
+        if (me.collidesWith(other)) {
+            CollisionMatrix.dispatch(me, other);
+            // 처리기가 크기/위치를 바꿀 수 있다 (폭탄 폭발 등)
+            updateQueryCells(me);
+            updateQueryCells(other);
+        }
+    }
+
+    /** 기존 O(n²) 전체 쌍 비교 (broad phase 결과 교차 확인용으로 유지) */
+    public void handleCollisionsBruteForce() {
+        phaseDepth++;
+        try {
+            int size = entities.size();
+            for (int i = 0; i < size; i++) {
+                Entity me = entities.get(i);
+                for (int j = i + 1; j < size; j++) {
+                    Entity other = entities.get(j);
+                    if (me.isRemoved() || other.isRemoved()) continue;
+                    if (me.collidesWith(other)) {
+                        me.collidedWith(other);
+                        other.collidedWith(me);
+                        updateQueryCells(me);
+                        updateQueryCells(other);
+                    }
+                }
+            }
+        } finally {
+            phaseDepth--;
+        }
     }
 
 
+    /** 이번 충돌 단계의 경계/포함 배열을 프레임 임시 버퍼에서 받는다 (내용은 재구성 때 모두 덮어씀) */
+    private void takeBoundsBuffers(int size) {
+        boundsMinX = scratch.ints(size);
+        boundsMinY = scratch.ints(size);
+        boundsMaxX = scratch.ints(size);
+        boundsMaxY = scratch.ints(size);
+        inGrid     = scratch.ints(size);
+    }
+
     // ===== 논리 업데이트(행 이동 등) =====
     public void applyLogicIfNeeded() {
         if (!logicRequiredThisLoop) {
             return;
         }
 
-        for (int i = 0; i < entities.size(); i++) {
-            entities.get(i).doLogic();
+        // 로직이 있는 건 외계인(행 내리기+방향 전환)뿐이라 외계인만 따로, 나머지는 한 루프
+        syncKinds();
+        phaseDepth++;
+        try {
+            // 편대는 방향 전환/내리기를 한 번만 하고, 각 외계인은 바뀐 칸 위치만 읽는다
+            if (formation != null) {
+                formation.doLogic();
+            }
+            for (int i = 0; i < kinds.count(Entity.KIND_ALIEN); i++) {
+                Entity e = kinds.get(Entity.KIND_ALIEN, i);
+                e.doLogic();
+                updateQueryCells(e);
+            }
+            for (int kind = 0; kind < Entity.KIND_COUNT; kind++) {
+                if (kind == Entity.KIND_ALIEN) continue;
+                for (int i = 0; i < kinds.count(kind); i++) {
+                    Entity e = kinds.get(kind, i);
+                    e.doLogic();
+                    updateQueryCells(e);
+                }
+            }
+        } finally {
+            phaseDepth--;
         }
 
         logicRequiredThisLoop = false;
     }
 
-    // ===== 제거 리스트 플러시 =====
+    // ===== 명령 버퍼 적용 (틱 끝) =====
+
+    /**
+     * 이번 틱에 쌓인 추가/제거를 한꺼번에 적용: 미뤄 둔 추가 → 제거 순서.
+     * 제거는 마지막 항목을 빈자리로 옮기는 O(1) 방식이라 목록 순서가 바뀔 수 있다.
+     * 같은 엔티티를 여러 번 제거 예약했거나, 예약 뒤 풀에서 재사용돼 핸들이
+     * 바뀐 경우는 한 번만(또는 아예) 처리하지 않는다.
+     */
     public void flushRemovals() {
+        if (!spawnQueue.isEmpty()) {
+            for (int i = 0; i < spawnQueue.size(); i++) {
+                insertNow(spawnQueue.get(i));
+            }
+            spawnQueue.clear();
+        }
         if (!removeList.isEmpty()) {
-            entities.removeAll(removeList);
+            syncKinds();
+            for (int i = 0; i < removeList.size(); i++) {
+                Entity e = removeList.get(i);
+                if (i < removeHandleCount && removeHandles[i] != e.getHandle()) continue;
+                if (removeNow(e)) {
+                    releaseToPool(e);
+                }
+            }
             removeList.clear();
+            removeHandleCount = 0;
         }
+        scratch.reset();
     }
 
-    // =====================================================================
-    // 2번: 스폰/폭탄/레이저/블랙홀 관련 로직
-    // =====================================================================
+    /** 목록에서 바로 뺀다 (없으면 false) */
+    private boolean removeNow(Entity e) {
+        if (e.getWorldSlot() < 0) return false;
+        if (!inList(e)) {
+            // 목록이 밖에서 바뀐 경우(테스트 등): 자리 번호를 다시 맞춘다
+            e.setWorldSlot(-1);
+            reindexKinds();
+            if (!inList(e)) return false;
+        }
+        int slot = e.getWorldSlot();
+        removeQueryCells(slot, entities.size() - 1);
+        Entity last = entities.remove(entities.size() - 1);
+        if (last != e) {
+            entities.set(slot, last);
+            last.setWorldSlot(slot);
+        }
+        e.setWorldSlot(-1);
+        kinds.remove(e);
+        handles.release(e);
+        e.setExpiryListener(null);
+        if (formation != null && e.getKind() == Entity.KIND_ALIEN) {
+            formation.onRemoved((AlienEntity) e);
+        }
+        return true;
+    }
 
-    // --- 외계인 중 무작위 1마리 뽑기 ---
-    private Entity pickRandomAlien() {
-        List<Entity> aliens = new ArrayList<>();
-        for (Entity e : entities) {
-            if (e instanceof AlienEntity) {
-                aliens.add(e);
-            }
+    private boolean inList(Entity e) {
+        int slot = e.getWorldSlot();
+        return slot >= 0 && slot < entities.size() && entities.get(slot) == e;
+    }
+
+    private void releaseToPool(Entity e) {
+        switch (e.getKind()) {
+            case Entity.KIND_SHOT:       shotPool.release((ShotEntity) e); break;
+            case Entity.KIND_ALIEN_SHOT: alienShotPool.release((AlienShotEntity) e); break;
+            case Entity.KIND_BOMB:       bombPool.release((BombEntity) e); break;
+            case Entity.KIND_LASER:      laserPool.release((LaserEntity) e); break;
+            default: break;
         }
-        if (aliens.isEmpty()) return null;
-        return aliens.get(rng.nextInt(aliens.size()));
     }
 
+    // ===== 풀에서 꺼내 스폰 =====
+
+    /** 플레이어 총알 */
+    public ShotEntity spawnShot(int x, int y) {
+        ShotEntity s = shotPool.acquire();
+        s.reset(x, y);
+        addEntity(s);
+        return s;
+    }
+
+    /** 적 총알 (horizontalSpeed: 가로 속도) */
+    public AlienShotEntity spawnAlienShot(int x, int y, double horizontalSpeed) {
+        AlienShotEntity s = alienShotPool.acquire();
+        s.reset(x, y, horizontalSpeed);
+        addEntity(s);
+        return s;
+    }
+
+    /** 폭탄 (DROP: 떨어지는 아이템, PROJECTILE: 발사된 폭탄) */
+    public BombEntity spawnBomb(int x, int y, BombEntity.Mode mode) {
+        BombEntity b = bombPool.acquire();
+        b.reset(x, y, mode);
+        addEntity(b);
+        return b;
+    }
+
+    /** 떨어지는 레이저 아이템 */
+    public LaserEntity spawnLaserItem(int x, int y) {
+        LaserEntity l = laserPool.acquire();
+        l.resetItem(x, y);
+        addEntity(l);
+        return l;
+    }
+
+    /** 활성 레이저 빔 */
+    public LaserEntity spawnLaserBeam(int centerX, int durationMs) {
+        LaserEntity l = laserPool.acquire();
+        l.resetBeam(centerX, durationMs);
+        addEntity(l);
+        return l;
+    }
+
+    // =====================================================================
+    // 2번: 스폰/폭탄/레이저/블랙홀 관련 로직
+    // =====================================================================
+
     /** 랜덤 외계인에게 총알 발사 */
     public boolean fireRandomAlienShot() {
-        Entity shooter = pickRandomAlien();
+        return fireRandomAlienShot(rng);
+    }
+
+    /** 랜덤 외계인에게 총알 발사 (호출한 쪽의 난수 사용) */
+    public boolean fireRandomAlienShot(Random r) {
+        syncKinds();
+        // 편대가 있으면 살아 있는 열 하나의 맨 아래 외계인이 쏜다
+        Entity shooter = (formation != null && formation.getAliveCount() > 0)
+                ? formation.randomShooter(r)
+                : kinds.random(Entity.KIND_ALIEN, r);
         if (shooter == null) {
             return false;
         }
         int sx = shooter.getX() + 12;
         int sy = shooter.getY() + 20;
-        entities.add(new AlienShotEntity(game, "sprites/shot.gif", sx, sy));
+        spawnAlienShot(sx, sy, 0);
         return true;
     }
 
@@ -128,8 +937,7 @@ public class World {
 
         int x = r.nextInt(Math.max(1, game.getVirtualWidth() - 32));
         int y = -32;
-        double fallSpeed = 500;
-        entities.add(new AsteroidEntity(game, x, y, fallSpeed));
+        addEntity(new AsteroidEntity(game, prefab(PrefabRegistry.ASTEROID), x, y));
     }
 
     /** 플레이어 주변에 블랙홀 스폰 (SpawnManager에서 호출) */
@@ -167,57 +975,168 @@ public class World {
         if (x > game.getVirtualWidth()  - w) x = game.getVirtualWidth()  - w;
         if (y > game.getVirtualHeight() - h) y = game.getVirtualHeight() - h;
 
-        entities.add(new BlackHoleEntity(game, x, y, radius, slowScale, lifeMs));
+        addEntity(new BlackHoleEntity(game, prefab(PrefabRegistry.BLACK_HOLE), x, y, radius, slowScale, lifeMs));
     }
 
-    /** 현재 월드에서 ShipEntity 탐색 */
+    /** 현재 월드의 ShipEntity */
     private Entity findShip() {
-        for (Entity e : entities) {
-            if (e instanceof ShipEntity) {
-                return e;
-            }
-        }
-        return null;
+        return firstOf(Entity.KIND_SHIP);
     }
 
+    // =====================================================================
+    // 공간 질의: 결과는 호출한 쪽이 넘긴 리스트에 엔티티 목록 순서대로 담는다
+    // (리스트를 재사용하면 질의 자체는 할당이 없다)
+    // =====================================================================
+
     /**
-     * 폭탄 폭발 처리
-     * @return 폭탄에 의해 죽은 Alien 수 (점수/도전과제 처리는 Game에서)
+     * 중심점이 (cx, cy)에서 radius 이내인 엔티티.
+     * @param kindMask Entity.kindBit(KIND_...)를 OR 한 필터
+     * @return 찾은 개수
      */
-    public int activateBombAt(int cx, int cy, int radius) {
-        List<Entity> toRemove = new ArrayList<>();
-        int aliensKilled = 0;
-
-        long radiusSq = (long) radius * radius;
+    public int queryCircle(double cx, double cy, double radius, int kindMask, List<Entity> out) {
+        out.clear();
+        ensureQueryIndex();
+        int n = queryGrid.gather(-1,
+                (int) Math.floor(cx - radius), (int) Math.floor(cy - radius),
+                (int) Math.ceil(cx + radius),  (int) Math.ceil(cy + radius));
+        int[] found = queryGrid.getFound();
+        double radiusSq = radius * radius;
+        for (int k = 0; k < n; k++) {
+            int i = found[k];
+            if ((Entity.kindBit(queryKinds[i]) & kindMask) == 0) continue;
+            Entity e = entities.get(i);
+            double dx = e.getX() + e.getWidth()  / 2.0 - cx;
+            double dy = e.getY() + e.getHeight() / 2.0 - cy;
+            if (dx * dx + dy * dy <= radiusSq) {
+                out.add(e);
+            }
+        }
+        return out.size();
+    }
 
-        for (Entity e : entities) {
-            double ex = e.getX() + e.getWidth() / 2.0;
-            double ey = e.getY() + e.getHeight() / 2.0;
-            double dx = ex - cx;
-            double dy = ey - cy;
+    /** 중심 X(정수)가 [left, right] 안에 있는 엔티티 (세로 전체) */
+    public int queryVerticalStrip(int left, int right, int kindMask, List<Entity> out) {
+        out.clear();
+        ensureQueryIndex();
+        int n = queryGrid.gather(-1, left, Integer.MIN_VALUE, right, Integer.MAX_VALUE);
+        int[] found = queryGrid.getFound();
+        for (int k = 0; k < n; k++) {
+            int i = found[k];
+            if ((Entity.kindBit(queryKinds[i]) & kindMask) == 0) continue;
+            Entity e = entities.get(i);
+            int ex = e.getX() + e.getWidth() / 2;
+            if (ex >= left && ex <= right) {
+                out.add(e);
+            }
+        }
+        return out.size();
+    }
 
-            if (dx * dx + dy * dy > radiusSq) {
-                continue;
+    /** 점 (px, py)를 영역(getFieldRadius) 안에 포함하는 엔티티 */
+    public int queryFieldsAt(double px, double py, int kindMask, List<Entity> out) {
+        out.clear();
+        ensureQueryIndex();
+        int ix = (int) Math.floor(px);
+        int iy = (int) Math.floor(py);
+        int n = queryGrid.gather(-1, ix, iy, ix, iy);
+        int[] found = queryGrid.getFound();
+        for (int k = 0; k < n; k++) {
+            int i = found[k];
+            if ((Entity.kindBit(queryKinds[i]) & kindMask) == 0) continue;
+            Entity e = entities.get(i);
+            double r = e.getFieldRadius();
+            if (r <= 0) continue;
+            double dx = e.getX() + e.getWidth()  / 2.0 - px;
+            double dy = e.getY() + e.getHeight() / 2.0 - py;
+            if (dx * dx + dy * dy <= r * r) {
+                out.add(e);
             }
+        }
+        return out.size();
+    }
 
-            if (e instanceof AlienEntity ||
-                    e instanceof AlienShotEntity ||
-                    e instanceof AsteroidEntity) {
+    /** 질의 전에: 목록이 밖에서 바뀌었으면 색인을 처음부터 다시 만든다 (평소에는 이미 최신) */
+    private void ensureQueryIndex() {
+        syncKinds();
+        int size = entities.size();
+        queryGrid.ensureIdCapacity(size);
+        if (!queryIndexStale) {
+            return;
+        }
+        queryIndexStale = false;
+        queryGrid.clear();
+        for (int i = 0; i < size; i++) {
+            insertQueryCells(entities.get(i));
+        }
+    }
 
-                if (e instanceof AlienEntity) {
-                    aliensKilled++;
-                }
-                toRemove.add(e);
-            } else if (e instanceof BossEntity) {
-                ((BossEntity) e).takeDamage(80);
-            }
+    /** 새로 들어온 엔티티를 자기 자리 번호로 색인에 넣는다 */
+    private void insertQueryCells(Entity e) {
+        if (queryIndexStale) return;   // 다음 질의 때 한꺼번에
+        int slot = e.getWorldSlot();
+        if (queryKinds.length <= slot) {
+            queryKinds = Arrays.copyOf(queryKinds, Math.max(slot + 1, queryKinds.length * 2));
+        }
+        if (queryCells.length < (slot + 1) * 4) {
+            queryCells = Arrays.copyOf(queryCells, Math.max((slot + 1) * 4, queryCells.length * 2));
         }
+        queryKinds[slot] = e.getKind();
+        int b = slot * 4;
+        computeQueryCells(e, queryCells, b);
+        queryGrid.insertCells(slot, queryCells[b], queryCells[b + 1], queryCells[b + 2], queryCells[b + 3]);
+    }
 
-        for (Entity e : toRemove) {
-            removeEntity(e);
+    /**
+     * 엔티티가 움직였거나 크기가 바뀌었을 수 있을 때: 셀 범위가 달라졌으면 옮긴다.
+     * 대부분의 틱에는 같은 셀에 머무르므로 비교만 하고 끝난다.
+     */
+    private void updateQueryCells(Entity e) {
+        if (queryIndexStale || !inList(e)) return;
+        int slot = e.getWorldSlot();
+        int b = slot * 4;
+        int[] cells = queryCells;
+        int c0 = cells[b], r0 = cells[b + 1], c1 = cells[b + 2], r1 = cells[b + 3];
+        computeQueryCells(e, cells, b);
+        if (cells[b] == c0 && cells[b + 1] == r0 && cells[b + 2] == c1 && cells[b + 3] == r1) {
+            return;
         }
+        queryGrid.removeCells(slot, c0, r0, c1, r1);
+        queryGrid.insertCells(slot, cells[b], cells[b + 1], cells[b + 2], cells[b + 3]);
+    }
 
-        return aliensKilled;
+    /** slot 자리를 비우고, 마지막 자리(lastSlot) 항목을 그 자리 번호로 옮긴다 (목록의 swap-remove와 같이) */
+    private void removeQueryCells(int slot, int lastSlot) {
+        if (queryIndexStale) return;
+        int[] cells = queryCells;
+        int b = slot * 4;
+        queryGrid.removeCells(slot, cells[b], cells[b + 1], cells[b + 2], cells[b + 3]);
+        if (lastSlot == slot) return;
+        int l = lastSlot * 4;
+        queryGrid.removeCells(lastSlot, cells[l], cells[l + 1], cells[l + 2], cells[l + 3]);
+        System.arraycopy(cells, l, cells, b, 4);
+        queryKinds[slot] = queryKinds[lastSlot];
+        queryGrid.insertCells(slot, cells[b], cells[b + 1], cells[b + 2], cells[b + 3]);
+    }
+
+    /** 중심점(영역이 있으면 영역 사각형)이 걸치는 셀 범위를 out[b..b+3]에 */
+    private void computeQueryCells(Entity e, int[] out, int b) {
+        double cx = e.getX() + e.getWidth()  / 2.0;
+        double cy = e.getY() + e.getHeight() / 2.0;
+        double r  = e.getFieldRadius();
+        out[b]     = queryGrid.cellColOf((int) Math.floor(cx - r));
+        out[b + 1] = queryGrid.cellRowOf((int) Math.floor(cy - r));
+        out[b + 2] = queryGrid.cellColOf((int) Math.ceil(cx + r));
+        out[b + 3] = queryGrid.cellRowOf((int) Math.ceil(cy + r));
+    }
+
+    /**
+     * 폭탄 폭발 처리
+     * @return 폭탄에 의해 죽은 Alien 수 (점수/도전과제 처리는 Game에서)
+     */
+    public int activateBombAt(int cx, int cy, int radius) {
+        List<Entity> hits = scratch.entities();
+        queryCircle(cx, cy, radius, BLAST_TARGETS, hits);
+        return applyBlast(hits, 80);
     }
 
     /**
@@ -231,32 +1150,25 @@ public class World {
         int left  = cx - (halfWidth + extraWidth);
         int right = cx + (halfWidth + extraWidth);
 
-        List<Entity> toRemove = new ArrayList<>();
-        int aliensKilled = 0;
-
-        for (Entity e : entities) {
-            int ex = e.getX() + e.getWidth() / 2;
-            if (ex < left || ex > right) {
-                continue;
-            }
-
-            if (e instanceof AlienEntity ||
-                    e instanceof AlienShotEntity ||
-                    e instanceof AsteroidEntity) {
+        List<Entity> hits = scratch.entities();
+        queryVerticalStrip(left, right, BLAST_TARGETS, hits);
+        return applyBlast(hits, 10);
+    }
 
-                if (e instanceof AlienEntity) {
+    /** 보스는 피해, 나머지(외계인/적 총알/유성)는 제거 */
+    private int applyBlast(List<Entity> hits, int bossDamage) {
+        int aliensKilled = 0;
+        for (int k = 0; k < hits.size(); k++) {
+            Entity e = hits.get(k);
+            if (e.getKind() == Entity.KIND_BOSS) {
+                ((BossEntity) e).takeDamage(bossDamage);
+            } else {
+                if (e.getKind() == Entity.KIND_ALIEN) {
                     aliensKilled++;
                 }
-                toRemove.add(e);
-            } else if (e instanceof BossEntity) {
-                ((BossEntity) e).takeDamage(10);
+                removeEntity(e);
             }
         }
-
-        for (Entity e : toRemove) {
-            removeEntity(e);
-        }
-
         return aliensKilled;
     }
 
@@ -264,22 +1176,12 @@ public class World {
      * 플레이어 이동 속도에 적용할 블랙홀 감속 비율
      */
     public float getBlackHoleSpeedScaleFor(double cx, double cy) {
-        for (Entity e : entities) {
-            if (e instanceof BlackHoleEntity) {
-                BlackHoleEntity bh = (BlackHoleEntity) e;
-
-                double bx = e.getX() + e.getWidth() / 2.0;
-                double by = e.getY() + e.getHeight() / 2.0;
-                double dx = bx - cx;
-                double dy = by - cy;
-                double distSq = dx * dx + dy * dy;
-                double r = bh.getRadius();
-
-                if (distSq <= r * r) {
-                    // 플레이어만 50% 이동
-                    return 0.5f;
-                }
-            }
+        if (countOf(Entity.KIND_BLACK_HOLE) == 0) {
+            return 1.0f;
+        }
+        if (queryFieldsAt(cx, cy, Entity.kindBit(Entity.KIND_BLACK_HOLE), scratch.entities()) > 0) {
+            // 플레이어만 50% 이동
+            return 0.5f;
         }
         return 1.0f;
     }
@@ -1,16 +1,17 @@
 package org.newdawn.spaceinvaders.entity;
 
 import org.newdawn.spaceinvaders.GameContext;
-import org.newdawn.spaceinvaders.Sprite;
-import org.newdawn.spaceinvaders.SpriteStore;
 
 public class AlienEntity extends Entity {
-    /** horizontal speed */
-    private double moveSpeed = 75;
+    /** 외계인 쪽에서 반응하는 충돌 상대 없음 (총알/배가 외계인에 반응) */
+    public static final int COLLISION_MASK = 0;
+
+    /** 기본 가로 속도(px/s) — 레벨 배수는 PrefabRegistry가 곱한다 */
+    static final double MOVE_SPEED = 75;
     /** game context (PlayScreen) */
     private final GameContext ctx;
-    /** animation frames */
-    private final Sprite[] frames = new Sprite[4];
+    /** animation frames (원형과 공유, 읽기 전용) */
+    private final Prefab prefab;
     /** frame change timer */
     private long lastFrameChange;
     /** frame duration (ms) */
@@ -18,28 +19,56 @@ public class AlienEntity extends Entity {
     /** frame index */
     private int frameNumber;
 
-    public AlienEntity(GameContext ctx, int x, int y) {
-        super("sprites/alien.gif", x, y);
+    /** 소속 편대 (null이면 예전처럼 혼자 움직임) */
+    private AlienFormation formation;
+    private int formationRow;
+    private int formationColumn;
 
-        // setup animation frames
-        frames[0] = sprite;
-        frames[1] = SpriteStore.get().getSprite("sprites/alien2.gif");
-        frames[2] = sprite;
-        frames[3] = SpriteStore.get().getSprite("sprites/alien3.gif");
+    public AlienEntity(GameContext ctx, int x, int y) {
+        this(ctx, PrefabRegistry.alien(1.0), x, y);
+    }
 
+    /** 원형(프레임/시작 속도)에서 생성 — 왼쪽으로 출발 */
+    public AlienEntity(GameContext ctx, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
+        this.prefab = prefab;
         this.ctx = ctx;
-        dx = -moveSpeed; // start moving left
+    }
+
+    /** 편대에 편입 (AlienFormation만 호출) */
+    void joinFormation(AlienFormation f, int row, int col) {
+        this.formation = f;
+        this.formationRow = row;
+        this.formationColumn = col;
+    }
+
+    public AlienFormation getFormation() { return formation; }
+    public int getFormationRow() { return formationRow; }
+    public int getFormationColumn() { return formationColumn; }
+
+    /** 편대 원점/속도/프레임에서 자기 칸 위치와 모습을 읽어 온다 */
+    void syncFromFormation() {
+        x = formation.cellX(formationColumn);
+        y = formation.cellY(formationRow);
+        dx = formation.getVelocityX();
+        sprite = prefab.frames[formation.getFrame()];
     }
 
     @Override
     public void move(long delta) {
+        // 편대 소속이면 편대가 이미 움직였으므로 위치만 맞춘다 (가장자리 확인도 편대가 함)
+        if (formation != null) {
+            syncFromFormation();
+            return;
+        }
+
         // animation timing
         lastFrameChange += delta;
         if (lastFrameChange > frameDuration) {
             lastFrameChange = 0;
             frameNumber++;
-            if (frameNumber >= frames.length) frameNumber = 0;
-            sprite = frames[frameNumber];
+            if (frameNumber >= prefab.frames.length) frameNumber = 0;
+            sprite = prefab.frames[frameNumber];
         }
 
         // edge -> request logic update (row drop + reverse)
@@ -55,13 +84,19 @@ public class AlienEntity extends Entity {
 
     @Override
     public void doLogic() {
+        // 방향 전환/내리기는 편대가 한 번에 처리 (World가 먼저 AlienFormation.doLogic 호출)
+        if (formation != null) {
+            syncFromFormation();
+            return;
+        }
+
         // reverse horizontal movement and move down a bit
         dx = -dx;
         y += 10;
 
         // bottom reached -> player dies
         if (y > 570) {
-            ctx.onPlayerHit();            // ★ game.notifyDeath() 대신
+            ctx.getEvents().hit(KIND_ALIEN);   // ★ game.notifyDeath() 대신
         }
     }
 
@@ -69,4 +104,10 @@ public class AlienEntity extends Entity {
     public void collidedWith(Entity other) {
         // no-op
     }
+
+    @Override
+    public int getCollisionLayer() { return LAYER_ALIEN; }
+
+    @Override
+    public int getKind() { return KIND_ALIEN; }
 }
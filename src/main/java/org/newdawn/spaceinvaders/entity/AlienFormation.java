@@ -0,0 +1,265 @@
+package org.newdawn.spaceinvaders.entity;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.newdawn.spaceinvaders.GameContext;
+
+/**
+ * 외계인 편대(rows x cols 격자)를 한 덩어리로 관리.
+ * - 위치는 편대 원점 하나 + (열 * 가로 간격, 행 * 세로 간격), 속도/애니메이션 프레임도 편대가 하나만 가진다
+ * - 살아 있는 칸은 비트마스크, 열마다 남은 수/맨 아래 행, 양끝 열을 따로 들고 있어서
+ *   가장자리 확인/가속/사수 고르기가 외계인 수와 무관하게 O(1)
+ * - 충돌 후보도 좌표를 간격으로 나눠 칸 번호로 바로 구한다 (격자 broad phase에 넣지 않음)
+ * 각 AlienEntity는 그리기/정밀 판정용으로 남아 있고, 이동 때 자기 칸 위치만 편대에서 읽어 온다.
+ */
+public final class AlienFormation {
+
+    private static final long FRAME_DURATION = 250;
+
+    private final GameContext ctx;
+    private final int rows;
+    private final int cols;
+    private final int pitchX;
+    private final int pitchY;
+
+    private double originX;
+    private double originY;
+    private double prevOriginX;
+    private double prevOriginY;
+    private double velocityX;
+
+    private final AlienEntity[] cells;
+    /** 칸(row * cols + col)별 생존 비트 */
+    private final long[] alive;
+    private int aliveCount;
+
+    /** 열별 남은 수 / 맨 아래 살아 있는 행 (-1이면 빈 열) */
+    private final int[] columnCount;
+    private final int[] bottomRow;
+    /** 살아 있는 열 목록 (사수 고르기용, 빈 열은 마지막 것과 자리 바꿔 뺌) */
+    private final int[] liveColumns;
+    private final int[] liveColumnPos;
+    private int liveColumnCount;
+    private int leftColumn;
+    private int rightColumn;
+
+    /** 충돌 후보 범위 계산용 외계인 크기 (애니메이션 프레임 중 최대) */
+    private final int alienWidth;
+    private final int alienHeight;
+
+    private long frameTimer;
+    private int frame;
+
+    /** 충돌 후보 결과 버퍼 (재사용) */
+    private AlienEntity[] found;
+
+    /**
+     * @param speedMul 기본 속도(AlienEntity 기본값)에 곱할 레벨 배수
+     */
+    public AlienFormation(GameContext ctx, int rows, int cols, int startX, int startY,
+                          int pitchX, int pitchY, double speedMul) {
+        this(ctx, PrefabRegistry.alien(speedMul), rows, cols, startX, startY, pitchX, pitchY);
+    }
+
+    /**
+     * @param alien 외계인 원형 (프레임/크기, 가로 속도에 레벨 배수가 이미 반영됨)
+     */
+    public AlienFormation(GameContext ctx, Prefab alien, int rows, int cols, int startX, int startY,
+                          int pitchX, int pitchY) {
+        this.ctx = ctx;
+        this.rows = rows;
+        this.cols = cols;
+        this.pitchX = pitchX;
+        this.pitchY = pitchY;
+        this.originX = startX;
+        this.originY = startY;
+        this.prevOriginX = startX;
+        this.prevOriginY = startY;
+
+        int n = rows * cols;
+        this.cells = new AlienEntity[n];
+        this.alive = new long[(n + 63) >>> 6];
+        this.columnCount = new int[cols];
+        this.bottomRow = new int[cols];
+        this.liveColumns = new int[cols];
+        this.liveColumnPos = new int[cols];
+        this.found = new AlienEntity[Math.min(n, 16)];
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                AlienEntity a = new AlienEntity(ctx, alien, startX + c * pitchX, startY + r * pitchY);
+                a.joinFormation(this, r, c);
+                cells[r * cols + c] = a;
+            }
+        }
+        this.velocityX = alien.dx;
+        this.alienWidth = alien.width;
+        this.alienHeight = alien.height;
+
+        for (int i = 0; i < n; i++) {
+            alive[i >>> 6] |= 1L << (i & 63);
+        }
+        aliveCount = n;
+        for (int c = 0; c < cols; c++) {
+            columnCount[c] = rows;
+            bottomRow[c] = rows - 1;
+            liveColumns[c] = c;
+            liveColumnPos[c] = c;
+        }
+        liveColumnCount = (rows > 0) ? cols : 0;
+        leftColumn = 0;
+        rightColumn = cols - 1;
+        for (AlienEntity a : cells) {
+            a.syncFromFormation();
+        }
+    }
+
+    // ===== 조회 =====
+
+    public int getRows() { return rows; }
+    public int getColumns() { return cols; }
+    public int getAliveCount() { return aliveCount; }
+    public double getVelocityX() { return velocityX; }
+    public int getFrame() { return frame; }
+
+    /** 칸 번호(row * cols + col)의 외계인 (죽었어도 객체는 남아 있음) */
+    public AlienEntity getAlien(int cell) { return cells[cell]; }
+
+    public boolean isAlive(int row, int col) {
+        int i = row * cols + col;
+        return (alive[i >>> 6] & (1L << (i & 63))) != 0;
+    }
+
+    /** 살아 있는 맨 왼쪽/오른쪽 열 (모두 죽었으면 -1) */
+    public int getLeftColumn()  { return aliveCount == 0 ? -1 : leftColumn; }
+    public int getRightColumn() { return aliveCount == 0 ? -1 : rightColumn; }
+
+    /** 해당 열의 맨 아래 살아 있는 행 (빈 열이면 -1) */
+    public int getBottomRow(int col) { return bottomRow[col]; }
+
+    double cellX(int col) { return originX + col * pitchX; }
+    double cellY(int row) { return originY + row * pitchY; }
+
+    // ===== 이동/로직 =====
+
+    /**
+     * 한 틱 이동: 양끝 열만 보고 가장자리 확인(로직 업데이트 요청) → 원점 이동 → 애니메이션.
+     * 각 외계인은 이어지는 자기 move()에서 바뀐 칸 위치를 읽어 간다.
+     */
+    public void move(long delta) {
+        prevOriginX = originX;
+        prevOriginY = originY;
+        if (aliveCount == 0) return;
+
+        frameTimer += delta;
+        if (frameTimer > FRAME_DURATION) {
+            frameTimer = 0;
+            frame = (frame + 1) & 3;
+        }
+
+        if (velocityX < 0 && cellX(leftColumn) < 10) {
+            ctx.requestLogicUpdate();
+        }
+        if (velocityX > 0 && cellX(rightColumn) > 750) {
+            ctx.requestLogicUpdate();
+        }
+        originX += (velocityX * delta) / 1000.0;
+    }
+
+    /** 가장자리에 닿은 뒤의 로직: 방향 전환 + 한 줄 내리기, 맨 아래 줄이 바닥에 닿으면 피격 */
+    public void doLogic() {
+        velocityX = -velocityX;
+        originY += 10;
+
+        int lowest = -1;
+        for (int k = 0; k < liveColumnCount; k++) {
+            lowest = Math.max(lowest, bottomRow[liveColumns[k]]);
+        }
+        if (lowest >= 0 && cellY(lowest) > 570) {
+            ctx.getEvents().hit(Entity.KIND_ALIEN);
+        }
+    }
+
+    /** 처치 보상 가속 등: 편대 속도에 배수를 곱한다 */
+    public void scaleSpeed(double factor) {
+        velocityX *= factor;
+    }
+
+    // ===== 처치 기록 =====
+
+    /** 이 편대 소속인지 */
+    public boolean contains(Entity e) {
+        return e instanceof AlienEntity && ((AlienEntity) e).getFormation() == this;
+    }
+
+    /** World에서 외계인이 실제로 빠질 때 호출 (이미 죽은 칸이면 무시) */
+    public void onRemoved(AlienEntity a) {
+        if (a.getFormation() != this) return;
+        int row = a.getFormationRow();
+        int col = a.getFormationColumn();
+        int i = row * cols + col;
+        long bit = 1L << (i & 63);
+        if ((alive[i >>> 6] & bit) == 0) return;
+        alive[i >>> 6] &= ~bit;
+        aliveCount--;
+
+        if (--columnCount[col] == 0) {
+            bottomRow[col] = -1;
+            int pos = liveColumnPos[col];
+            int last = liveColumns[--liveColumnCount];
+            liveColumns[pos] = last;
+            liveColumnPos[last] = pos;
+            if (aliveCount > 0) {
+                while (columnCount[leftColumn] == 0) leftColumn++;
+                while (columnCount[rightColumn] == 0) rightColumn--;
+            }
+        } else if (row == bottomRow[col]) {
+            int r = row - 1;
+            while (!isAlive(r, col)) r--;
+            bottomRow[col] = r;
+        }
+    }
+
+    /** 사수 고르기: 살아 있는 열 하나를 고르게 골라 그 열 맨 아래 외계인 (없으면 null) */
+    public AlienEntity randomShooter(Random rng) {
+        if (liveColumnCount == 0) return null;
+        int col = liveColumns[rng.nextInt(liveColumnCount)];
+        return cells[bottomRow[col] * cols + col];
+    }
+
+    // ===== 충돌 후보 =====
+
+    /**
+     * 픽셀 범위 [minX, maxX] x [minY, maxY](양끝 포함)와 이번 틱 이동 경로가 겹칠 수 있는
+     * 살아 있는 외계인을 칸 계산으로 모아 getFound()에 담는다 (행 → 열 순서).
+     * @return 후보 수
+     */
+    public int gather(int minX, int minY, int maxX, int maxY) {
+        if (aliveCount == 0) return 0;
+        double loX = Math.min(originX, prevOriginX), hiX = Math.max(originX, prevOriginX);
+        double loY = Math.min(originY, prevOriginY), hiY = Math.max(originY, prevOriginY);
+
+        int c0 = Math.max(leftColumn, (int) Math.ceil((minX - 1 - alienWidth - hiX) / pitchX));
+        int c1 = Math.min(rightColumn, (int) Math.floor((maxX + 1 - loX) / pitchX));
+        int r0 = Math.max(0, (int) Math.ceil((minY - 1 - alienHeight - hiY) / pitchY));
+        int r1 = Math.min(rows - 1, (int) Math.floor((maxY + 1 - loY) / pitchY));
+
+        int n = 0;
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                if (!isAlive(r, c)) continue;
+                if (n == found.length) {
+                    found = Arrays.copyOf(found, n * 2);
+                }
+                found[n++] = cells[r * cols + c];
+            }
+        }
+        return n;
+    }
+
+    /** 마지막 gather() 결과 (앞에서부터 반환된 개수만큼 유효) */
+    public AlienEntity[] getFound() {
+        return found;
+    }
+}
@@ -3,27 +3,40 @@ package org.newdawn.spaceinvaders.entity;
 
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.geom.AffineTransform;
+import org.newdawn.spaceinvaders.CollisionMask;
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.GameContext;
+import org.newdawn.spaceinvaders.RenderSnapshot;
+import org.newdawn.spaceinvaders.Sprite;
 
 public class AlienShotEntity extends Entity {
+    public static final int COLLISION_MASK = layerBit(LAYER_SHIP);
+
+    /** 화면 아래로 벗어나면 제거 */
+    private static final CullPolicy CULL = CullPolicy.below(700);
+
     private final GameContext game;
-    private double bulletSpeed = 400; // 아래로 이동
+    static final double BULLET_SPEED = 400; // 아래로 이동
 
     public AlienShotEntity(GameContext game, String sprite, int x, int y) {
-        super(sprite, x, y);   // 예: "sprites/shot.gif"
+        this(game, PrefabRegistry.sprite(sprite, 0, BULLET_SPEED), x, y);   // 예: "sprites/shot.gif"
+    }
+
+    public AlienShotEntity(GameContext game, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
         this.game = game;
-        this.dy = bulletSpeed;
     }
 
-    public void move(long delta) {
-        super.move(delta);
-        if (y > 700) {
-            game.removeEntity(this);
-        }
+    /** 풀에서 다시 꺼낼 때 새로 만든 것과 같은 상태로 (dx: 가로 속도) */
+    public void reset(int x, int y, double horizontalSpeed) {
+        resetPosition(x, y);
+        this.dx = horizontalSpeed;
+        this.dy = BULLET_SPEED;
     }
 
+    @Override
+    public CullPolicy getCullPolicy() { return CULL; }
+
     public void doLogic() { /* no-op */ }
 
     public boolean collidesWith(Entity other) {
@@ -32,27 +45,40 @@ public class AlienShotEntity extends Entity {
 
     public void collidedWith(Entity other) {
         if (other instanceof ShipEntity) {
-            game.removeEntity(this);
-            if (game.isPlayerInvincible()) return;
-            game.onPlayerHit();
+            hitShip();
         }
     }
 
-    // ⬇️ 여기 추가: 180도 회전해서 그리기
-    public void draw(Graphics g) {
-        Graphics2D g2 = (Graphics2D) g;
-        AffineTransform old = g2.getTransform();
+    /** 배에 명중: 총알 제거 후 피격 알림 (무적이면 처리하는 쪽에서 무시) */
+    void hitShip() {
+        game.removeEntity(this);
+        game.getEvents().hit(KIND_ALIEN_SHOT);
+    }
 
-        int w = sprite.getWidth();
-        int h = sprite.getHeight();
+    @Override
+    public int getCollisionLayer() { return LAYER_ALIEN_SHOT; }
 
-        // 총알 중심 기준 회전
-        g2.translate((int)x + w / 2.0, (int)y + h / 2.0);
-        g2.rotate(Math.PI); // 180도
-        // 회전된 좌표계에서 좌상단 보정
-        sprite.draw(g2, -w / 2, -h / 2);
+    @Override
+    public int getKind() { return KIND_ALIEN_SHOT; }
 
-        g2.setTransform(old);
+    /** 180도 뒤집어 그리므로 마스크도 뒤집어서 판정 */
+    @Override
+    public CollisionMask getCollisionMask() {
+        CollisionMask m = super.getCollisionMask();
+        return (m == null) ? null : m.rotated180();
+    }
+
+    /** 400px/s — 긴 틱에서는 배를 뚫고 지나갈 수 있음 */
+    @Override
+    public boolean isFastMover() { return true; }
+
+    // ⬇️ 여기 추가: 180도 회전해서 그리기
+    public void draw(Graphics g) {
+        RenderSnapshot.drawFlipped((Graphics2D) g, sprite, (int) x, (int) y);
     }
-}
 
+    @Override
+    public void appendTo(RenderSnapshot snap) {
+        snap.addFlippedSprite(sprite, prevX, prevY, x, y, RenderSnapshot.LAYER_ACTORS);
+    }
+}
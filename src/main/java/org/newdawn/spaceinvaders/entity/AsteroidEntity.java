@@ -4,24 +4,24 @@ import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.GameContext;
 
 public class AsteroidEntity extends Entity {
+    public static final int COLLISION_MASK = layerBit(LAYER_SHIP);
+
+    /** 화면 아래로 충분히 벗어나면 제거 */
+    private static final CullPolicy CULL = CullPolicy.below(Game.VIRTUAL_HEIGHT + 64);
+
     private final GameContext game;
-    private final double fallSpeed;
 
-    public AsteroidEntity(GameContext game, int x, int y, double fallSpeed) {
-        super("sprites/asteroid.png", x, y); // 프로젝트 경로에 맞게 유지
+    /** 기본 낙하 속도(px/s) */
+    static final double FALL_SPEED = 500;
+
+    /** 원형의 속도로 직하강: 기본 선형 이동 */
+    public AsteroidEntity(GameContext game, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
         this.game = game;
-        this.fallSpeed = fallSpeed;
-        this.dy = fallSpeed;
     }
 
     @Override
-    public void move(long delta) {
-        // 직하강
-        y += (int) Math.round((fallSpeed * delta) / 1000.0);
-        if (y > Game.VIRTUAL_HEIGHT + 64) {
-            game.removeEntity(this);
-        }
-    }
+    public CullPolicy getCullPolicy() { return CULL; }
 
     @Override
     public void doLogic() {
@@ -41,8 +41,22 @@ public class AsteroidEntity extends Entity {
 
         // 배랑 부딪히면 배는 피해, 유성은 제거 (원하면 유지/조정)
         if (other instanceof ShipEntity) {
-            game.onPlayerHit();
-            game.removeEntity(this);
+            hitShip();
         }
     }
+
+    /** 배와 충돌: 배 피격 + 유성 제거 */
+    void hitShip() {
+        game.getEvents().hit(KIND_ASTEROID);
+        game.removeEntity(this);
+    }
+
+    @Override
+    public int getCollisionLayer() { return LAYER_ASTEROID; }
+
+    @Override
+    public int getKind() { return KIND_ASTEROID; }
+
+    @Override
+    public boolean isFastMover() { return true; }
 }
@@ -2,7 +2,6 @@ package org.newdawn.spaceinvaders.entity;
 
 import java.awt.Graphics;
 import java.awt.Graphics2D;
-import java.awt.Color;
 
 import org.newdawn.spaceinvaders.*;
 
@@ -18,31 +17,32 @@ public class BlackHoleEntity extends Entity {
     private final double strength;     // (지금은 Game에서 0.5 고정 스케일 사용, 보관만)
     private final long spawnTime;      // 생성 시각
     private final long lifetimeMs;     // 지속 시간(ms)
-    private final Sprite sprite;       // 스프라이트 (gif)
 
-    public BlackHoleEntity(GameContext game, int x, int y,
+    public BlackHoleEntity(GameContext game, Prefab prefab, int x, int y,
                            double radius, double strength, long lifetimeMs) {
-        super("sprites/blackhole.gif", x, y);
+        super(prefab, x, y);
         this.game = game;
         this.radius = radius;
         this.strength = strength;
         this.lifetimeMs = lifetimeMs;
-        this.spawnTime = SystemTimer.getTime();
-
-        this.sprite = SpriteStore.get().getSprite("sprites/blackhole.gif");
+        this.spawnTime = game.getClock().now();
+        setExpireAt(spawnTime + lifetimeMs);   // 수명은 World 정리 단계가 확인
 
         setHorizontalMovement(0);
         setVerticalMovement(0);
     }
 
+    /** 제자리에 머문다 (감속은 Game이 플레이어 속도 계산할 때만 적용, 수명은 World 정리 단계) */
     @Override
     public void move(long delta) {
-        long now = SystemTimer.getTime();
-        if (now - spawnTime >= lifetimeMs) {
-            game.removeEntity(this);
-            return;
-        }
-        // 감속은 Game이 플레이어 속도 계산할 때만 적용
+    }
+
+    /** 감속 영역 원까지 그리므로 반경만큼 넓혀서 본다 */
+    @Override
+    public boolean isOnScreen(int viewW, int viewH) {
+        int r = (int) Math.ceil(radius);
+        return getX() + getWidth() + r >= 0 && getX() - r < viewW
+                && getY() + getHeight() + r >= 0 && getY() - r < viewH;
     }
 
     public double getRadius()   { return radius; }
@@ -57,12 +57,27 @@ public class BlackHoleEntity extends Entity {
         if (sprite != null && sprite.getWidth() > 0) {
             sprite.draw(g, (int) getX(), (int) getY());
         } else {
-            int r = (int) radius;
-            g.setColor(new Color(80, 80, 200, 150));
-            g.fillOval((int)(getX() + getWidth()/2.0 - r), (int)(getY() + getHeight()/2.0 - r), r * 2, r * 2);
+            RenderSnapshot.drawField(g, getX(), getY(), getWidth(), (int) radius);
+        }
+    }
+
+    @Override
+    public void appendTo(RenderSnapshot snap) {
+        // 블랙홀은 다른 엔티티 아래에 깔리도록 배경 레이어
+        if (sprite != null && sprite.getWidth() > 0) {
+            snap.addSprite(sprite, prevX, prevY, x, y, RenderSnapshot.LAYER_BACKGROUND);
+        } else {
+            snap.addShape(RenderSnapshot.KIND_FIELD, prevX, prevY, x, y,
+                    getWidth(), (int) radius, RenderSnapshot.LAYER_BACKGROUND);
         }
     }
 
     @Override public void doLogic() { /* 없음 */ }
     @Override public void collidedWith(Entity other) { /* 없음 */ }
+
+    @Override public int getCollisionLayer() { return LAYER_NONE; }
+
+    @Override public int getKind() { return KIND_BLACK_HOLE; }
+
+    @Override public double getFieldRadius() { return radius; }
 }
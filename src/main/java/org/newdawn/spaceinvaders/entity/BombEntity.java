@@ -5,9 +5,8 @@ import java.awt.Graphics2D;
 
 import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.GameContext;
+import org.newdawn.spaceinvaders.RenderSnapshot;
 import org.newdawn.spaceinvaders.Sprite;
-import org.newdawn.spaceinvaders.SpriteStore;
-import org.newdawn.spaceinvaders.SystemTimer;
 
 /**
  * BombEntity: DROP(떨어지는아이템) / PROJECTILE(발사체) / EXPLODING(폭발)
@@ -18,35 +17,43 @@ public class BombEntity extends Entity {
 
     public enum Mode { DROP, PROJECTILE, EXPLODING }
 
+    /** DROP: 배가 주우면 획득 */
+    public static final int ITEM_COLLISION_MASK = layerBit(LAYER_SHIP);
+    /** PROJECTILE: 외계인/적 총알/유성에 닿으면 폭발 */
+    public static final int PROJECTILE_COLLISION_MASK =
+            layerBit(LAYER_ALIEN) | layerBit(LAYER_ALIEN_SHOT) | layerBit(LAYER_ASTEROID);
+
     private Mode mode;
 
     // 움직임 속도
-    private final double dropSpeedY = 120;   // 천천히 낙하
+    static final double DROP_SPEED = 120;    // 천천히 낙하
     private final double shotSpeedY = -450;  // 위로 발사
 
     // 폭발 이펙트
     private final long explosionLifeMs = 550;
+    /** 떨어지는 아이템은 화면 아래로 벗어나면 제거 */
+    private static final CullPolicy DROP_CULL = CullPolicy.below(Game.VIRTUAL_HEIGHT);
     private long explodeStart = -1;
 
-    // 폭발 스프라이트
-    private Sprite explosionSprite;
+    // 폭발 스프라이트 (원형의 프레임 0)
+    private final Sprite explosionSprite;
 
     public BombEntity(GameContext ctx, int x, int y) {
-        super("sprites/bomb.png", x, y);
+        this(ctx, PrefabRegistry.bomb(), x, y);
+    }
+
+    public BombEntity(GameContext ctx, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
         this.ctx = ctx;
-        this.explosionSprite = loadExplosionSprite();
+        this.explosionSprite = (prefab.getFrameCount() > 0) ? prefab.getFrame(0) : null;
         setMode(Mode.DROP); // 기본은 DROP
     }
 
-    /** explosion 스프라이트 로드: png 우선, 실패 시 gif */
-    private Sprite loadExplosionSprite() {
-        SpriteStore store = SpriteStore.get();
-        Sprite s = null;
-        try { s = store.getSprite("sprites/explosion.png"); } catch (RuntimeException ignore) {}
-        if (s == null) {
-            try { s = store.getSprite("sprites/explosion.gif"); } catch (RuntimeException ignore) {}
-        }
-        return s;
+    /** 풀에서 다시 꺼낼 때: 위치와 모드(DROP 또는 PROJECTILE)를 새로 정한다 */
+    public void reset(int x, int y, Mode m) {
+        resetPosition(x, y);
+        this.explodeStart = -1;
+        setMode(m);
     }
 
     public final void setMode(Mode m) {
@@ -54,7 +61,7 @@ public class BombEntity extends Entity {
         switch (m) {
             case DROP:
                 setHorizontalMovement(0);
-                setVerticalMovement(dropSpeedY);
+                setVerticalMovement(DROP_SPEED);
                 break;
             case PROJECTILE:
                 setHorizontalMovement(0);
@@ -63,7 +70,8 @@ public class BombEntity extends Entity {
             case EXPLODING:
                 setHorizontalMovement(0);
                 setVerticalMovement(0);
-                explodeStart = SystemTimer.getTime();
+                explodeStart = ctx.getClock().now();
+                setExpireAt(explodeStart + explosionLifeMs);   // 폭발 이펙트 수명
                 // 폭발 논리는 GameContext.activateBombAt 에서 수행
                 int cx = (int) (getX() + getWidth()  / 2.0);
                 int cy = (int) (getY() + getHeight() / 2.0);
@@ -74,38 +82,28 @@ public class BombEntity extends Entity {
 
     @Override
     public void move(long delta) {
-        switch (mode) {
-            case DROP:
-                super.move(delta);
-                if (getY() > Game.VIRTUAL_HEIGHT) {
-                    ctx.removeEntity(this);       // ✅ ctx 사용
-                }
-                break;
-
-            case PROJECTILE:
-                super.move(delta);
-                if (getY() + getHeight() < 0) {
-                    setMode(Mode.EXPLODING);
-                }
-                break;
-
-            case EXPLODING:
-                if (SystemTimer.getTime() - explodeStart >= explosionLifeMs) {
-                    ctx.removeEntity(this);       // ✅ ctx 사용
-                }
-                break;
+        if (mode == Mode.EXPLODING) {
+            return;   // 폭발 중에는 제자리 (폭발 수명은 World 정리 단계)
+        }
+        super.move(delta);
+        // 화면 위로 벗어난 발사체는 그 자리에서 폭발 (DROP은 World 정리 단계에서 제거)
+        if (mode == Mode.PROJECTILE && getY() + getHeight() < 0) {
+            setMode(Mode.EXPLODING);
         }
     }
 
+    @Override
+    public CullPolicy getCullPolicy() {
+        return (mode == Mode.DROP) ? DROP_CULL : null;
+    }
+
     @Override public void doLogic() { }
 
     @Override
     public void collidedWith(Entity other) {
         if (mode == Mode.DROP) {
             if (other instanceof ShipEntity) {
-                if (ctx.collectBomb()) {          // ✅ ctx 사용
-                    ctx.removeEntity(this);
-                }
+                pickUp();
             }
             return;
         }
@@ -114,13 +112,41 @@ public class BombEntity extends Entity {
             if (other instanceof AlienEntity ||
                     other instanceof AlienShotEntity ||
                     other instanceof AsteroidEntity) {
-                setMode(Mode.EXPLODING);
+                detonate();
             }
             return;
         }
         // EXPLODING 중에는 충돌 없음
     }
 
+    /** DROP 아이템을 배가 주움 (가방에 넣고 지우는 건 이벤트 처리 쪽에서, 가득 차 있으면 남겨 둠) */
+    void pickUp() {
+        ctx.getEvents().pickup(KIND_BOMB, getHandle());
+    }
+
+    /** 발사체가 목표에 닿아 폭발 */
+    void detonate() {
+        setMode(Mode.EXPLODING);
+    }
+
+    /** 발사체(-450px/s)일 때만 경로 판정 */
+    @Override
+    public boolean isFastMover() {
+        return mode == Mode.PROJECTILE;
+    }
+
+    @Override
+    public int getKind() { return KIND_BOMB; }
+
+    @Override
+    public int getCollisionLayer() {
+        switch (mode) {
+            case DROP:       return LAYER_BOMB_ITEM;
+            case PROJECTILE: return LAYER_PLAYER_BOMB;
+            default:         return LAYER_NONE;   // 폭발 중에는 충돌 없음
+        }
+    }
+
     @Override
     public void draw(Graphics g0) {
         Graphics2D g = (Graphics2D) g0;
@@ -140,4 +166,20 @@ public class BombEntity extends Entity {
             sprite.draw(g, (int) getX(), (int) getY());
         }
     }
+
+    @Override
+    public void appendTo(RenderSnapshot snap) {
+        if (mode == Mode.EXPLODING) {
+            if (explosionSprite != null) {
+                int w = explosionSprite.getWidth();
+                int h = explosionSprite.getHeight();
+                int cx = (int) (getX() + getWidth()  / 2.0);
+                int cy = (int) (getY() + getHeight() / 2.0);
+                snap.addSprite(explosionSprite, cx - w / 2, cy - h / 2, cx - w / 2, cy - h / 2,
+                        RenderSnapshot.LAYER_EFFECTS);
+            }
+            return;
+        }
+        super.appendTo(snap);
+    }
 }
@@ -3,30 +3,34 @@ package org.newdawn.spaceinvaders.entity;
 import java.awt.Graphics2D;
 
 import org.newdawn.spaceinvaders.GameContext;
-import org.newdawn.spaceinvaders.Sprite;
-import org.newdawn.spaceinvaders.SpriteStore;
+import org.newdawn.spaceinvaders.TimerWheel;
 
 /** 보스 엔티티 */
 public class BossEntity extends Entity {
+    public static final int COLLISION_MASK = layerBit(LAYER_PLAYER_SHOT) | layerBit(LAYER_SHIP);
+
     private final GameContext ctx;
-    private final Sprite sprite;
 
     private int maxHP = 800;
     private int hp    = maxHP;
 
-    private double speed = 120;
+    /** 기본 가로 속도(px/s) */
+    static final double DEFAULT_SPEED = 120;
+
+    private double speed = DEFAULT_SPEED;
     private int leftBound  = 40;
     private int rightBound = 760;
 
-    private long lastShot     = 0;
     private long shotInterval = 900;
-
-    public BossEntity(GameContext ctx, int x, int y) {
-        super("sprites/Boss.png", x, y);
-        this.ctx    = ctx;
-        this.sprite = SpriteStore.get().getSprite("sprites/Boss.png");
-        setHorizontalMovement(speed);
-        setVerticalMovement(0);
+    /** 사격 타이머 (울릴 때마다 shotInterval 뒤로 다시 예약) */
+    private final TimerWheel.Action shotAction = arg -> onShotTimer();
+
+    public BossEntity(GameContext ctx, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
+        this.ctx = ctx;
+        this.speed = Math.abs(prefab.dx);
+        // 등장 직후 첫 틱(이동 뒤)에 바로 쏘고 그 뒤로 shotInterval마다
+        ctx.getClock().getTimers().schedule(ctx.getClock().now(), shotAction, 0);
     }
 
     @Override
@@ -40,12 +44,12 @@ public class BossEntity extends Entity {
             setX(rightBound - getWidth());
             setHorizontalMovement(-Math.abs(getHorizontalMovement()));
         }
+    }
 
-        long now = System.currentTimeMillis();
-        if (now - lastShot >= shotInterval) {
-            lastShot = now;
-            firePattern();
-        }
+    private void onShotTimer() {
+        if (isRemoved() || isDead()) return;   // 처치/런 종료 뒤에는 더 예약하지 않는다
+        firePattern();
+        ctx.getClock().getTimers().schedule(ctx.getClock().now() + shotInterval, shotAction, 0);
     }
 
     /** 3갈래 탄막 */
@@ -53,17 +57,9 @@ public class BossEntity extends Entity {
         int cx = getX() + getWidth() / 2;
         int cy = getY() + getHeight() - 10;
 
-        AlienShotEntity s0 = new AlienShotEntity(ctx, "sprites/shot.gif", cx, cy);
-        s0.setHorizontalMovement(0);
-        ctx.addEntity(s0);
-
-        AlienShotEntity sL = new AlienShotEntity(ctx, "sprites/shot.gif", cx - 8, cy);
-        sL.setHorizontalMovement(-80);
-        ctx.addEntity(sL);
-
-        AlienShotEntity sR = new AlienShotEntity(ctx, "sprites/shot.gif", cx + 8, cy);
-        sR.setHorizontalMovement(+80);
-        ctx.addEntity(sR);
+        ctx.spawnAlienShot(cx, cy, 0);
+        ctx.spawnAlienShot(cx - 8, cy, -80);
+        ctx.spawnAlienShot(cx + 8, cy, +80);
     }
 
     public void takeDamage(int amount) {
@@ -71,7 +67,7 @@ public class BossEntity extends Entity {
         hp -= amount;
         if (hp <= 0) {
             hp = 0;
-            ctx.onBossDefeated(this);
+            ctx.getEvents().bossDefeated(getHandle());
             ctx.removeEntity(this);
         }
     }
@@ -91,15 +87,31 @@ public class BossEntity extends Entity {
     @Override
     public void collidedWith(Entity other) {
         if (other instanceof ShotEntity) {
-            takeDamage(10);
-            ctx.removeEntity(other);
+            hitByShot(other);
             return;
         }
         if (other instanceof ShipEntity) {
-            ctx.onPlayerHit();
+            touchShip();
         }
     }
 
+    /** 플레이어 총알 명중 */
+    void hitByShot(Entity shot) {
+        takeDamage(10);
+        ctx.removeEntity(shot);
+    }
+
+    /** 배와 충돌 */
+    void touchShip() {
+        ctx.getEvents().hit(KIND_BOSS);
+    }
+
+    @Override
+    public int getCollisionLayer() { return LAYER_BOSS; }
+
+    @Override
+    public int getKind() { return KIND_BOSS; }
+
     public long getShotInterval() { return shotInterval; }
 
     public void setShotInterval(long ms) {
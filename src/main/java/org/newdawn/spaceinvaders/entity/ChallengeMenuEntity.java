@@ -21,6 +21,9 @@ public class ChallengeMenuEntity extends Entity {
     public void doLogic() { }
     public void collidedWith(Entity other) { }
 
+    @Override
+    public int getCollisionLayer() { return LAYER_NONE; }
+
     // ✅ 부모와 동일 시그니처로 수정: Graphics
     public void draw(Graphics g0) {
         if (!visible) return;
@@ -0,0 +1,92 @@
+package org.newdawn.spaceinvaders.entity;
+
+/**
+ * 충돌 레이어 쌍 → (판정 여부, 처리기) 표.
+ * - 각 엔티티는 getCollisionLayer()로 레이어를, 클래스 상수 COLLISION_MASK로
+ *   "반응하는 상대 레이어"를 선언한다
+ * - 두 레이어 중 어느 한쪽이라도 상대에 반응해야 판정 대상(canInteract)
+ * - 판정에 걸리면 instanceof 사슬 대신 표에서 바로 처리기를 꺼내 호출한다
+ * - LAYER_GENERIC은 예전처럼 양쪽 collidedWith()를 그대로 부른다 (전용 처리기가 없는 엔티티용)
+ */
+public final class CollisionMatrix {
+
+    /** self(행 레이어)가 other(열 레이어)와 닿았을 때의 처리 */
+    public interface ContactHandler {
+        void onContact(Entity self, Entity other);
+    }
+
+    private static final int N = Entity.LAYER_COUNT;
+
+    private static final int[] MASKS = new int[N];
+    private static final boolean[] INTERACTS = new boolean[N * N];
+    private static final ContactHandler[] HANDLERS = new ContactHandler[N * N];
+
+    private static final ContactHandler LEGACY = (self, other) -> self.collidedWith(other);
+
+    static {
+        MASKS[Entity.LAYER_GENERIC]     = ~0;
+        MASKS[Entity.LAYER_SHIP]        = ShipEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_PLAYER_SHOT] = ShotEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_PLAYER_BOMB] = BombEntity.PROJECTILE_COLLISION_MASK;
+        MASKS[Entity.LAYER_ALIEN]       = AlienEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_ALIEN_SHOT]  = AlienShotEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_ASTEROID]    = AsteroidEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_BOSS]        = BossEntity.COLLISION_MASK;
+        MASKS[Entity.LAYER_BOMB_ITEM]   = BombEntity.ITEM_COLLISION_MASK;
+        MASKS[Entity.LAYER_LASER_ITEM]  = LaserEntity.ITEM_COLLISION_MASK;
+
+        for (int a = 0; a < N; a++) {
+            for (int b = 0; b < N; b++) {
+                INTERACTS[a * N + b] = a != Entity.LAYER_NONE && b != Entity.LAYER_NONE
+                        && ((MASKS[a] & Entity.layerBit(b)) != 0 || (MASKS[b] & Entity.layerBit(a)) != 0);
+            }
+        }
+
+        // 기존 collidedWith()의 instanceof 분기를 레이어 쌍별 처리기로 옮긴 것
+        on(Entity.LAYER_SHIP, Entity.LAYER_ALIEN,       (self, other) -> ((ShipEntity) self).hitByEnemy());
+        on(Entity.LAYER_SHIP, Entity.LAYER_ALIEN_SHOT,  (self, other) -> ((ShipEntity) self).hitByEnemy());
+        on(Entity.LAYER_PLAYER_SHOT, Entity.LAYER_ALIEN, (self, other) -> ((ShotEntity) self).hitAlien(other));
+        on(Entity.LAYER_ALIEN_SHOT, Entity.LAYER_SHIP,  (self, other) -> ((AlienShotEntity) self).hitShip());
+        on(Entity.LAYER_ASTEROID, Entity.LAYER_SHIP,    (self, other) -> ((AsteroidEntity) self).hitShip());
+        on(Entity.LAYER_BOSS, Entity.LAYER_PLAYER_SHOT, (self, other) -> ((BossEntity) self).hitByShot(other));
+        on(Entity.LAYER_BOSS, Entity.LAYER_SHIP,        (self, other) -> ((BossEntity) self).touchShip());
+        on(Entity.LAYER_PLAYER_BOMB, Entity.LAYER_ALIEN,      (self, other) -> ((BombEntity) self).detonate());
+        on(Entity.LAYER_PLAYER_BOMB, Entity.LAYER_ALIEN_SHOT, (self, other) -> ((BombEntity) self).detonate());
+        on(Entity.LAYER_PLAYER_BOMB, Entity.LAYER_ASTEROID,   (self, other) -> ((BombEntity) self).detonate());
+        on(Entity.LAYER_BOMB_ITEM, Entity.LAYER_SHIP,   (self, other) -> ((BombEntity) self).pickUp());
+        on(Entity.LAYER_LASER_ITEM, Entity.LAYER_SHIP,  (self, other) -> ((LaserEntity) self).pickUp());
+
+        // 전용 처리기가 없는 엔티티는 기존 collidedWith() 경로
+        for (int l = 0; l < N; l++) {
+            if (l == Entity.LAYER_NONE) continue;
+            HANDLERS[Entity.LAYER_GENERIC * N + l] = LEGACY;
+            HANDLERS[l * N + Entity.LAYER_GENERIC] = LEGACY;
+        }
+    }
+
+    private CollisionMatrix() { /* 유틸 클래스 */ }
+
+    private static void on(int self, int other, ContactHandler h) {
+        HANDLERS[self * N + other] = h;
+    }
+
+    /** 두 레이어 사이에 판정할 필요가 있는지 (어느 쪽도 반응하지 않으면 false) */
+    public static boolean canInteract(int layerA, int layerB) {
+        return INTERACTS[layerA * N + layerB];
+    }
+
+    /**
+     * 충돌이 확인된 쌍을 처리. 기존과 같이 a 쪽 반응 → b 쪽 반응 순서이며,
+     * a의 반응으로 b의 레이어가 바뀌었을 수 있으므로 b 쪽 처리기는 그 뒤에 고른다.
+     */
+    public static void dispatch(Entity a, Entity b) {
+        ContactHandler h = HANDLERS[a.getCollisionLayer() * N + b.getCollisionLayer()];
+        if (h != null) {
+            h.onContact(a, b);
+        }
+        h = HANDLERS[b.getCollisionLayer() * N + a.getCollisionLayer()];
+        if (h != null) {
+            h.onContact(b, a);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.newdawn.spaceinvaders.entity;
+
+/**
+ * 종류별 수명/화면 밖 제거 규칙. World의 정리 단계가 이동이 끝난 뒤 한 루프로 적용한다.
+ * - 좌표(좌상단)가 [minX, maxX] x [minY, maxY] 밖으로 나가면 제거 대상
+ *   (graceMs > 0이면 그 시간 동안 계속 밖에 있어야 제거)
+ * - maxLifetimeMs > 0이면 World에 들어간 뒤 그 시간이 지나면 제거
+ * 개체별 만료 시각(레이저 빔, 폭발, 블랙홀)은 Entity.setExpireAt으로 따로 지정한다.
+ */
+public final class CullPolicy {
+
+    public final double minX;
+    public final double minY;
+    public final double maxX;
+    public final double maxY;
+    public final long graceMs;
+    public final long maxLifetimeMs;
+
+    public CullPolicy(double minX, double minY, double maxX, double maxY,
+                      long graceMs, long maxLifetimeMs) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.graceMs = graceMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+    }
+
+    /** y가 minY보다 작아지면(위로 벗어나면) 바로 제거 */
+    public static CullPolicy above(double minY) {
+        return new CullPolicy(Double.NEGATIVE_INFINITY, minY,
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, 0, 0);
+    }
+
+    /** y가 maxY보다 커지면(아래로 벗어나면) 바로 제거 */
+    public static CullPolicy below(double maxY) {
+        return new CullPolicy(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, maxY, 0, 0);
+    }
+
+    public boolean isOutside(double x, double y) {
+        return x < minX || x > maxX || y < minY || y > maxY;
+    }
+}
@@ -1,8 +1,10 @@
 package org.newdawn.spaceinvaders.entity;
 
 import java.awt.Graphics;
-import java.awt.Rectangle;
+import java.awt.Graphics2D;
 
+import org.newdawn.spaceinvaders.CollisionMask;
+import org.newdawn.spaceinvaders.RenderSnapshot;
 import org.newdawn.spaceinvaders.Sprite;
 import org.newdawn.spaceinvaders.SpriteStore;
 
@@ -23,9 +25,32 @@ public abstract class Entity {
 	protected double dx;
 	protected double dy;
 
-	/** 충돌 캐시용 바운딩 박스 */
-	private final Rectangle me   = new Rectangle();
-	private final Rectangle him  = new Rectangle();
+	/** 직전 시뮬레이션 틱 시작 시점의 위치 (렌더 보간용) */
+	protected double prevX;
+	protected double prevY;
+
+	/** World 종류별 목록 안의 자리 (-1이면 목록에 없음) */
+	private int indexSlot = -1;
+
+	/** World 엔티티 목록 안의 자리 (-1이면 목록에 없음) */
+	private int worldSlot = -1;
+
+	/** 핸들 없음 (World에 들어간 적이 없거나 이미 빠짐) */
+	public static final long NO_HANDLE = 0L;
+
+	/** World가 준 세대 핸들 (상위 32비트: 세대, 하위 32비트: 번호) */
+	private long handle = NO_HANDLE;
+
+	/** EntityPool에 반환되어 쉬는 중인지 */
+	private boolean inPool = false;
+
+	/** 제거 예약됨: 다음 flush까지 이동/충돌/그리기에서 빠진다 */
+	private boolean removed = false;
+	/** World에 들어간 시각 / 정리 범위 밖으로 나간 시각(-1이면 안쪽) / 개별 만료 시각(0이면 없음) */
+	private long spawnTimeMs;
+	private long outsideSinceMs = -1;
+	private long expireAtMs = 0;
+	private ExpiryListener expiryListener;
 
 	/**
 	 * @param ref 로딩할 스프라이트 경로 (없으면 null 가능)
@@ -38,6 +63,22 @@ public abstract class Entity {
 		}
 		this.x = x;
 		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
+	}
+
+	/**
+	 * 원형에서 생성: 미리 찾아 둔 스프라이트와 기본 속도를 복사한다 (SpriteStore 조회 없음).
+	 * @param prefab PrefabRegistry의 원형
+	 */
+	public Entity(Prefab prefab, int x, int y) {
+		this.sprite = prefab.sprite;
+		this.dx = prefab.dx;
+		this.dy = prefab.dy;
+		this.x = x;
+		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
 	}
 
 	/* ========== 이동 & 렌더 ========== */
@@ -55,11 +96,184 @@ public abstract class Entity {
 		}
 	}
 
+	/** 틱 시작 시 현재 위치를 직전 위치로 보관 (World.moveAll에서 호출) */
+	public void storePreviousPosition() {
+		prevX = x;
+		prevY = y;
+	}
+
+	/**
+	 * 직전 틱 위치와 현재 위치 사이를 alpha 비율로 보간해서 그린다.
+	 * 하위 클래스의 draw()가 x/y를 직접 쓰더라도 그대로 동작하도록
+	 * 위치를 바꾸지 않고 그래픽 좌표계만 잠깐 평행이동한다.
+	 */
+	public void drawInterpolated(Graphics2D g, double alpha) {
+		double ox = (prevX - x) * (1.0 - alpha);
+		double oy = (prevY - y) * (1.0 - alpha);
+		if (ox == 0 && oy == 0) {
+			draw(g);
+			return;
+		}
+		g.translate(ox, oy);
+		draw(g);
+		g.translate(-ox, -oy);
+	}
+
+	/**
+	 * 렌더 스냅샷에 이 엔티티의 그리기 정보를 기록 (파이프라인 모드용).
+	 * draw()를 오버라이드한 하위 클래스는 같은 모양이 나오도록 함께 오버라이드한다.
+	 */
+	public void appendTo(RenderSnapshot snap) {
+		snap.addSprite(sprite, prevX, prevY, x, y, RenderSnapshot.LAYER_ACTORS);
+	}
+
+	/* ========== 종류 (공간 질의 필터용) ========== */
+
+	public static final int KIND_OTHER      = 0;
+	public static final int KIND_SHIP       = 1;
+	public static final int KIND_SHOT       = 2;
+	public static final int KIND_ALIEN      = 3;
+	public static final int KIND_ALIEN_SHOT = 4;
+	public static final int KIND_ASTEROID   = 5;
+	public static final int KIND_BOSS       = 6;
+	public static final int KIND_BOMB       = 7;
+	public static final int KIND_LASER      = 8;
+	public static final int KIND_BLACK_HOLE = 9;
+	public static final int KIND_COUNT      = 10;
+
+	/** 종류 번호 → 질의 필터 비트 */
+	public static int kindBit(int kind) {
+		return 1 << kind;
+	}
+
+	/** 이 엔티티의 종류 (클래스마다 고정, instanceof 대신 World 질의 필터에 사용) */
+	public int getKind() {
+		return KIND_OTHER;
+	}
+
+	/** World 종류별 목록용 자리 번호 (World만 사용) */
+	public final int getIndexSlot() { return indexSlot; }
+	public final void setIndexSlot(int slot) { this.indexSlot = slot; }
+
+	/** World 엔티티 목록용 자리 번호 (World만 사용) */
+	public final int getWorldSlot() { return worldSlot; }
+	public final void setWorldSlot(int slot) { this.worldSlot = slot; }
+
+	/** World 세대 핸들 (World에 없으면 NO_HANDLE) */
+	public final long getHandle() { return handle; }
+	public final void setHandle(long handle) { this.handle = handle; }
+
+	/** 풀 반환 여부 (EntityPool만 사용) */
+	public final boolean isInPool() { return inPool; }
+	public final void setInPool(boolean inPool) { this.inPool = inPool; }
+
+	/** 풀에서 다시 꺼낸 인스턴스의 위치/속도 초기화 (직전 위치도 같이 맞춰 보간이 튀지 않게) */
+	protected void resetPosition(int x, int y) {
+		this.x = x;
+		this.y = y;
+		this.prevX = x;
+		this.prevY = y;
+		this.dx = 0;
+		this.dy = 0;
+		this.expireAtMs = 0;
+	}
+
+	/* ========== 수명/정리 ========== */
+
+	/**
+	 * 이 엔티티의 수명/화면 밖 제거 규칙 (null이면 World가 따로 정리하지 않음).
+	 * 상태에 따라 다른 규칙을 돌려줘도 된다 (폭탄 DROP/PROJECTILE 등).
+	 */
+	public CullPolicy getCullPolicy() {
+		return null;
+	}
+
+	/** 만료 시각이 바뀌면 타이머를 다시 거는 쪽 (World가 넣을 때 연결, 뺄 때 해제) */
+	public interface ExpiryListener {
+		void expiryChanged(Entity e);
+	}
+
+	/** 이 시각(ms)이 되면 World 타이머가 제거 (0이면 만료 없음) */
+	protected final void setExpireAt(long timeMs) {
+		this.expireAtMs = timeMs;
+		if (timeMs != 0 && expiryListener != null) {
+			expiryListener.expiryChanged(this);
+		}
+	}
+	public final long getExpireAt() { return expireAtMs; }
+
+	public final ExpiryListener getExpiryListener() { return expiryListener; }
+	public final void setExpiryListener(ExpiryListener l) { this.expiryListener = l; }
+
+	/** World에 들어갈 때 (World만 사용) */
+	public final void markSpawned(long nowMs) {
+		this.spawnTimeMs = nowMs;
+		this.outsideSinceMs = -1;
+		this.removed = false;
+	}
+	public final long getSpawnTime() { return spawnTimeMs; }
+	public final long getOutsideSince() { return outsideSinceMs; }
+	public final void setOutsideSince(long timeMs) { this.outsideSinceMs = timeMs; }
+
+	/** 제거 예약 여부 (World.removeEntity 때 켜짐) */
+	public final boolean isRemoved() { return removed; }
+	public final void markRemoved() { this.removed = true; }
+
+	/**
+	 * 화면(0,0 ~ viewW,viewH)에 조금이라도 걸치는지 (보간 구간 포함).
+	 * 크기를 모르는 엔티티(스프라이트 없음)는 그린다고 본다.
+	 */
+	public boolean isOnScreen(int viewW, int viewH) {
+		if (getWidth() <= 0 || getHeight() <= 0) return true;
+		return getSweptMaxX() >= 0 && getSweptMinX() < viewW
+				&& getSweptMaxY() >= 0 && getSweptMinY() < viewH;
+	}
+
+	/**
+	 * 주변에 영향을 주는 반경 (블랙홀 감속 영역 등). 0이면 영역 없음.
+	 * World.queryFieldsAt이 이 반경으로 점 포함 여부를 판정한다.
+	 */
+	public double getFieldRadius() {
+		return 0;
+	}
+
+	/* ========== 충돌 레이어 ========== */
+
+	/** 충돌하지 않음 (HUD/블랙홀/빔/폭발 이펙트 등) */
+	public static final int LAYER_NONE        = 0;
+	/** 전용 처리기가 없는 엔티티 — 모든 레이어와 판정하고 collidedWith()로 처리 */
+	public static final int LAYER_GENERIC     = 1;
+	public static final int LAYER_SHIP        = 2;
+	public static final int LAYER_PLAYER_SHOT = 3;
+	public static final int LAYER_PLAYER_BOMB = 4;
+	public static final int LAYER_ALIEN       = 5;
+	public static final int LAYER_ALIEN_SHOT  = 6;
+	public static final int LAYER_ASTEROID    = 7;
+	public static final int LAYER_BOSS        = 8;
+	public static final int LAYER_BOMB_ITEM   = 9;
+	public static final int LAYER_LASER_ITEM  = 10;
+	public static final int LAYER_COUNT       = 11;
+
+	/** 레이어 번호 → 마스크 비트 */
+	public static int layerBit(int layer) {
+		return 1 << layer;
+	}
+
+	/**
+	 * 이 엔티티의 현재 충돌 레이어. 모드에 따라 바뀌는 엔티티(폭탄/레이저)는
+	 * 호출 시점의 모드를 반영한다. 반응 대상 마스크는 하위 클래스의
+	 * COLLISION_MASK 상수로 선언하고 CollisionMatrix에 등록한다.
+	 */
+	public int getCollisionLayer() {
+		return LAYER_GENERIC;
+	}
+
 	/* ========== 충돌 ========== */
 
 	/**
 	 * AABB 충돌 판정 (NPE 방지 버전)
 	 * 스프라이트가 하나라도 없으면 충돌하지 않는 것으로 간주한다.
+	 * 상태를 바꾸지 않으므로 병렬 narrow phase에서 여러 스레드가 동시에 불러도 된다.
 	 */
 	public boolean collidesWith(Entity other) {
 		if (other == null || this == other) return false;
@@ -69,12 +283,128 @@ public abstract class Entity {
 			return false;
 		}
 
-		// 나
-		me.setBounds((int) x, (int) y, getWidth(), getHeight());
-		// 상대
-		him.setBounds(other.getX(), other.getY(), other.getWidth(), other.getHeight());
+		// 나 / 상대 (Rectangle.intersects와 같은 기준: 크기 0 이하는 충돌 없음, 경계 맞닿음은 충돌 아님)
+		int ax = (int) x, ay = (int) y, aw = getWidth(), ah = getHeight();
+		int bx = other.getX(), by = other.getY(), bw = other.getWidth(), bh = other.getHeight();
+		if (aw <= 0 || ah <= 0 || bw <= 0 || bh <= 0) return false;
 
-		return me.intersects(him);
+		if (ax < bx + bw && bx < ax + aw && ay < by + bh && by < ay + ah) {
+			// 사각형이 겹칠 때만 불투명 픽셀끼리 겹치는지 확인
+			if (CollisionMask.overlaps(getCollisionMask(), ax, ay, aw, ah,
+					other.getCollisionMask(), bx, by, bw, bh)) {
+				return true;
+			}
+		}
+
+		// 빠른 엔티티는 도착 위치만 보면 상대를 뚫고 지나갈 수 있으므로 이동 경로까지 본다
+		if (isFastMover() || other.isFastMover()) {
+			return sweptIntersects(other);
+		}
+		return false;
+	}
+
+	/**
+	 * 충돌에 쓰는 픽셀 마스크 (null이면 사각형 전체).
+	 * 스프라이트를 다르게 그리는 하위 클래스(뒤집기/도형)는 그 모양에 맞춰 오버라이드한다.
+	 */
+	public CollisionMask getCollisionMask() {
+		if (sprite == null) return null;
+		CollisionMask m = sprite.getCollisionMask();
+		// 크기를 따로 정하는 엔티티는 마스크와 맞지 않으므로 사각형으로 판정
+		if (m == null || m.getWidth() != getWidth() || m.getHeight() != getHeight()) return null;
+		return m;
+	}
+
+	/**
+	 * 한 틱에 자기 크기 이상 움직일 수 있는 엔티티인지 (적 총알/폭탄 발사체/유성 등).
+	 * true면 collidesWith가 직전 틱 위치 → 현재 위치 경로 전체로 판정한다.
+	 */
+	public boolean isFastMover() {
+		return false;
+	}
+
+	/**
+	 * swept AABB 판정: 이번 틱 동안(직전 위치 → 현재 위치) 두 상자가 겹친 순간이 있는지.
+	 * 상대를 고정으로 보고 상대 이동량으로 바꾼 뒤, 축별로 겹치는 시간 구간을 구해
+	 * [0, 1] 안에서 두 구간이 겹치면 그 구간에서 픽셀 마스크까지 확인한다.
+	 * (경계만 맞닿는 경우는 충돌 아님)
+	 */
+	protected boolean sweptIntersects(Entity other) {
+		double relX = (x - prevX) - (other.x - other.prevX);
+		double relY = (y - prevY) - (other.y - other.prevY);
+
+		double enter = 0.0;
+		double exit  = 1.0;
+
+		// X축: prevX + relX*t 가 (other.prevX - w, other.prevX + ow) 안에 있어야 겹침
+		double lo = other.prevX - getWidth() - prevX;
+		double hi = other.prevX + other.getWidth() - prevX;
+		if (relX == 0) {
+			if (lo >= 0 || hi <= 0) return false;
+		} else {
+			double t0 = lo / relX;
+			double t1 = hi / relX;
+			enter = Math.max(enter, Math.min(t0, t1));
+			exit  = Math.min(exit,  Math.max(t0, t1));
+		}
+
+		// Y축
+		lo = other.prevY - getHeight() - prevY;
+		hi = other.prevY + other.getHeight() - prevY;
+		if (relY == 0) {
+			if (lo >= 0 || hi <= 0) return false;
+		} else {
+			double t0 = lo / relY;
+			double t1 = hi / relY;
+			enter = Math.max(enter, Math.min(t0, t1));
+			exit  = Math.min(exit,  Math.max(t0, t1));
+		}
+
+		if (enter >= exit) return false;
+		return masksMeetAlongPath(other, enter, exit);
+	}
+
+	/**
+	 * 사각형이 겹치는 시간 구간 [enter, exit] 동안 픽셀 마스크도 닿는지.
+	 * 상대 이동 1px 간격으로 위치를 훑는다 (마스크가 없으면 바로 true).
+	 */
+	private boolean masksMeetAlongPath(Entity other, double enter, double exit) {
+		CollisionMask ma = getCollisionMask();
+		CollisionMask mb = other.getCollisionMask();
+		if (ma == null && mb == null) return true;
+
+		double relX = (x - prevX) - (other.x - other.prevX);
+		double relY = (y - prevY) - (other.y - other.prevY);
+		double travel = Math.max(Math.abs(relX), Math.abs(relY)) * (exit - enter);
+		int steps = Math.max(1, (int) Math.ceil(travel));
+
+		int aw = getWidth(), ah = getHeight();
+		int bw = other.getWidth(), bh = other.getHeight();
+		for (int s = 0; s <= steps; s++) {
+			double t = enter + (exit - enter) * s / steps;
+			int ax = (int) (prevX + (x - prevX) * t);
+			int ay = (int) (prevY + (y - prevY) * t);
+			int bx = (int) (other.prevX + (other.x - other.prevX) * t);
+			int by = (int) (other.prevY + (other.y - other.prevY) * t);
+			if (CollisionMask.overlaps(ma, ax, ay, aw, ah, mb, bx, by, bw, bh)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** 이번 틱 이동 경로(직전 위치 ∪ 현재 위치)를 덮는 픽셀 범위 — broad phase 격자용 */
+	public int getSweptMinX() { return (int) Math.floor(Math.min(x, prevX)); }
+	public int getSweptMinY() { return (int) Math.floor(Math.min(y, prevY)); }
+	public int getSweptMaxX() { return (int) Math.ceil(Math.max(x, prevX)) + getWidth()  - 1; }
+	public int getSweptMaxY() { return (int) Math.ceil(Math.max(y, prevY)) + getHeight() - 1; }
+
+	/**
+	 * 충돌 판정 대상인지 여부 (스프라이트가 없으면 collidesWith가 항상 false).
+	 * broad phase에서 아예 격자에 넣지 않을 엔티티를 거르는 데 사용한다.
+	 */
+	public boolean hasCollisionBounds() {
+		return sprite != null;
 	}
 
 	/* ========== 좌표/크기 ========== */
@@ -82,6 +412,10 @@ public abstract class Entity {
 	public int getX() { return (int) x; }
 	public int getY() { return (int) y; }
 
+	/** 정밀 위치 (double) */
+	public final double getExactX() { return x; }
+	public final double getExactY() { return y; }
+
 	/** 필요 시 하위/외부에서 사용할 수 있도록 세터도 제공 */
 	public void setX(int x) { this.x = x; }
 	public void setY(int y) { this.y = y; }
@@ -1,10 +1,12 @@
 package org.newdawn.spaceinvaders.entity;
 
-import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Polygon;
 
+import org.newdawn.spaceinvaders.CollisionMask;
+import org.newdawn.spaceinvaders.Game;
 import org.newdawn.spaceinvaders.GameContext;
+import org.newdawn.spaceinvaders.RenderSnapshot;
+import org.newdawn.spaceinvaders.Sprite;
 
 /**
  * 레이저 아이템 & 레이저 빔(시각효과) 엔티티
@@ -13,39 +15,66 @@ public class LaserEntity extends Entity {
 
     public enum Mode { ITEM, BEAM }
 
+    /** ITEM: 배가 주우면 획득 */
+    public static final int ITEM_COLLISION_MASK = layerBit(LAYER_SHIP);
+
     private final GameContext ctx;
-    private final Mode mode;
+    private Mode mode;
+    /** ITEM 모드 판정용 스프라이트 (풀에서 다시 꺼낼 때 되돌림) */
+    private final Sprite itemSprite;
 
     // ITEM 모드(도형)
     private static final int ITEM_W = 14;
     private static final int ITEM_H = 18;
-    private static final int ITEM_FALL_SPEED = 120; // px/sec
-    private boolean collected = false;
+    static final int ITEM_FALL_SPEED = 120; // px/sec
 
     // BEAM 모드
-    private long expireAtMs;
+    /** 떨어지는 아이템은 화면 아래로 벗어나면 제거 (빔은 개별 만료 시각) */
+    private static final CullPolicy ITEM_CULL = CullPolicy.below(Game.VIRTUAL_HEIGHT + 50);
     private int  beamHalfWidth = 1; // 시각적/판정 폭 절반
-    private int  beamAlpha = 170;
 
-    private LaserEntity(GameContext ctx, Mode mode, int x, int y) {
-        super("sprites/shot.gif", x, y);
+    private LaserEntity(GameContext ctx, Prefab prefab, Mode mode, int x, int y) {
+        super(prefab, x, y);
         this.ctx  = ctx;
         this.mode = mode;
+        this.itemSprite = this.sprite;
         if (mode == Mode.BEAM) {
             this.sprite = null; // 스프라이트 렌더 안 쓰게
+            this.dy = 0;
         }
     }
 
+    /** 풀에서 다시 꺼낸 인스턴스를 떨어지는 아이템으로 */
+    public void resetItem(int x, int y) {
+        resetPosition(x, y);
+        this.mode = Mode.ITEM;
+        this.sprite = itemSprite;
+        this.dy = ITEM_FALL_SPEED;
+    }
+
+    /** 풀에서 다시 꺼낸 인스턴스를 활성 빔으로 (durationMs 유지) */
+    public void resetBeam(int centerX, int durationMs) {
+        resetPosition(centerX, 0);
+        this.mode = Mode.BEAM;
+        this.sprite = null;
+        setExpireAt(ctx.getClock().now() + (durationMs <= 0 ? 500 : durationMs));
+    }
+
     /** 드랍되는 레이저 아이템 생성 (이미지 없이 도형) */
     public static LaserEntity createDropItem(GameContext ctx, int x, int y) {
-        return new LaserEntity(ctx, Mode.ITEM, x, y);
+        return createDropItem(ctx, PrefabRegistry.sprite("sprites/shot.gif", 0, ITEM_FALL_SPEED), x, y);
+    }
+
+    /** 원형(PrefabRegistry.LASER_ITEM)에서 드랍 아이템 생성 */
+    public static LaserEntity createDropItem(GameContext ctx, Prefab prefab, int x, int y) {
+        return new LaserEntity(ctx, prefab, Mode.ITEM, x, y);
     }
 
     /** 활성 레이저 빔 생성 (durationMs 유지) */
     public static LaserEntity createActiveBeam(GameContext ctx, int centerX, int durationMs) {
-        LaserEntity e = new LaserEntity(ctx, Mode.BEAM, centerX, 0);
-        long now = System.currentTimeMillis();
-        e.expireAtMs = now + (durationMs <= 0 ? 500 : durationMs);
+        LaserEntity e = new LaserEntity(ctx, PrefabRegistry.sprite("sprites/shot.gif", 0, 0), Mode.BEAM, centerX, 0);
+        long now = ctx.getClock().now();
+        e.setExpireAt(now + (durationMs <= 0 ? 500 : durationMs));
         return e;
     }
 
@@ -54,11 +83,8 @@ public class LaserEntity extends Entity {
     @Override
     public void move(long delta) {
         if (mode == Mode.ITEM) {
-            long dyLong = ((long) ITEM_FALL_SPEED * delta) / 1000L;
-            this.y += (int) dyLong;
-            if (this.y > ctx.getVirtualHeight() + 50) {
-                ctx.removeEntity(this);
-            }
+            // 직하강: double로 계산 (정수로 자르면 8ms 틱에서 120 * 8 / 1000 = 0px이라 멈춘다)
+            this.y += (ITEM_FALL_SPEED * delta) / 1000.0;
         } else {
             int cx = ctx.getShipCenterX();
             this.x = cx - 1;
@@ -66,43 +92,34 @@ public class LaserEntity extends Entity {
 
             // 판정은 GameContext가 처리
             ctx.tickLaserAt(cx, beamHalfWidth);
-
-            long now = System.currentTimeMillis();
-            if (now >= expireAtMs) {
-                ctx.removeEntity(this);
-            }
         }
     }
 
+    @Override
+    public CullPolicy getCullPolicy() {
+        return (mode == Mode.ITEM) ? ITEM_CULL : null;
+    }
+
     @Override
     public void draw(Graphics g) {
         if (mode == Mode.ITEM) {
-            int drawX = (int) x;
-            int drawY = (int) y;
-            int cx = drawX + ITEM_W / 2;
-            int cy = drawY + ITEM_H / 2;
-            int hw = ITEM_W / 2;
-            int hh = ITEM_H / 2;
-
-            Polygon diamond = new Polygon(
-                    new int[] { cx, cx + hw, cx, cx - hw },
-                    new int[] { cy - hh, cy, cy + hh, cy },
-                    4
-            );
-            g.setColor(new Color(255, 80, 80, 230));
-            g.fillPolygon(diamond);
-            g.setColor(new Color(255, 0, 0, 240));
-            g.drawPolygon(diamond);
+            RenderSnapshot.drawDiamond(g, (int) x, (int) y, ITEM_W, ITEM_H);
         } else {
             int cx = ctx.getShipCenterX();
-            int left   = cx - beamHalfWidth;
-            int width  = beamHalfWidth * 2;
-            int height = ctx.getVirtualHeight();
-
-            g.setColor(new Color(255, 0, 0, beamAlpha));
-            g.fillRect(left, 0, width, height);
-            g.setColor(new Color(255, 200, 200, beamAlpha));
-            g.drawRect(left, 0, width, height);
+            RenderSnapshot.drawBeam(g, cx - beamHalfWidth, beamHalfWidth * 2, ctx.getVirtualHeight());
+        }
+    }
+
+    @Override
+    public void appendTo(RenderSnapshot snap) {
+        if (mode == Mode.ITEM) {
+            snap.addShape(RenderSnapshot.KIND_DIAMOND, prevX, prevY, x, y,
+                    ITEM_W, ITEM_H, RenderSnapshot.LAYER_ACTORS);
+        } else {
+            // 빔은 배 중심을 따라가므로 보간 없이 현재 위치로 기록
+            int left = ctx.getShipCenterX() - beamHalfWidth;
+            snap.addShape(RenderSnapshot.KIND_BEAM, left, 0, left, 0,
+                    beamHalfWidth * 2, ctx.getVirtualHeight(), RenderSnapshot.LAYER_EFFECTS);
         }
     }
 
@@ -121,16 +138,32 @@ public class LaserEntity extends Entity {
     @Override
     public void collidedWith(Entity other) {
         if (mode == Mode.ITEM) {
-            if (collected) return;
             if (other instanceof ShipEntity) {
-                if (ctx.collectLaser()) {
-                    collected = true;
-                    ctx.removeEntity(this);
-                }
+                pickUp();
             }
         }
     }
 
+    /** ITEM을 배가 주움 (가방에 넣고 지우는 건 이벤트 처리 쪽에서 — 이미 지워졌으면 무시) */
+    void pickUp() {
+        ctx.getEvents().pickup(KIND_LASER, getHandle());
+    }
+
+    /** 아이템은 스프라이트 대신 마름모를 그리므로 사각형 전체로 판정 */
+    @Override
+    public CollisionMask getCollisionMask() {
+        return null;
+    }
+
+    @Override
+    public int getKind() { return KIND_LASER; }
+
+    @Override
+    public int getCollisionLayer() {
+        // 빔은 판정을 World.tickLaserAt에서 따로 하므로 충돌 레이어 없음
+        return (mode == Mode.ITEM) ? LAYER_LASER_ITEM : LAYER_NONE;
+    }
+
     @Override
     public void doLogic() { }
 
@@ -33,6 +33,9 @@ public class PlayScoreEntity extends Entity {
         g.drawString(scoreStr, Game.VIRTUAL_WIDTH - 150, 20);
     }
 
+    @Override
+    public int getCollisionLayer() { return LAYER_NONE; }
+
     @Override
     public void doLogic() {
         // no-op
@@ -0,0 +1,48 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.Sprite;
+
+/**
+ * 엔티티 원형(archetype): 미리 찾아 둔 스프라이트/애니메이션 프레임, 판정 크기, 기본 속도.
+ * PrefabRegistry가 레벨마다 한 번 만들고, 엔티티는 생성할 때 필드만 복사해 간다
+ * (SpriteStore 조회/해시 없이).
+ *
+ * 프레임 배열은 같은 원형의 엔티티가 함께 쓰므로 바꾸면 안 된다.
+ */
+public final class Prefab {
+
+    /** 기본 스프라이트 경로 (진단용) */
+    public final String ref;
+    /** 기본 모습 (null이면 그리지 않고 판정 크기도 0) */
+    public final Sprite sprite;
+    /** 애니메이션/모드별 프레임 (없으면 길이 0) */
+    final Sprite[] frames;
+    /** 기본 모습과 프레임 중 가장 큰 폭/높이 */
+    public final int width;
+    public final int height;
+    /** 기본 속도 (px/s) */
+    public final double dx;
+    public final double dy;
+
+    Prefab(String ref, Sprite sprite, Sprite[] frames, double dx, double dy) {
+        this.ref = ref;
+        this.sprite = sprite;
+        this.frames = frames;
+        this.dx = dx;
+        this.dy = dy;
+        int w = (sprite != null) ? sprite.getWidth() : 0;
+        int h = (sprite != null) ? sprite.getHeight() : 0;
+        for (Sprite f : frames) {
+            if (f != null) {
+                w = Math.max(w, f.getWidth());
+                h = Math.max(h, f.getHeight());
+            }
+        }
+        this.width = w;
+        this.height = h;
+    }
+
+    public int getFrameCount() { return frames.length; }
+
+    public Sprite getFrame(int i) { return frames[i]; }
+}
@@ -0,0 +1,91 @@
+package org.newdawn.spaceinvaders.entity;
+
+import org.newdawn.spaceinvaders.LevelConfig;
+import org.newdawn.spaceinvaders.Sprite;
+import org.newdawn.spaceinvaders.SpriteStore;
+
+/**
+ * 레벨 하나에서 쓰는 엔티티 원형(Prefab) 모음.
+ * - 런 시작 때 한 번 만들면서 스프라이트/프레임을 SpriteStore에서 찾아 두고 크기/기본 속도를 정한다
+ *   (레벨별 외계인 속도 배수, 고른 기체 스프라이트 포함)
+ * - 스폰은 get(종류 번호)로 원형을 받아 필드만 복사한다 → 외계인 60마리나 총알 연사도 해시 조회 없음
+ * - 레지스트리 없이 만드는 예전 생성자(테스트/도구용)도 아래 원형 생성 메서드를 거쳐 같은 값을 쓴다
+ *
+ * 만든 뒤에는 읽기만 하므로 어느 스레드에서 읽어도 된다.
+ */
+public final class PrefabRegistry {
+
+    public static final int SHIP       = 0;
+    public static final int ALIEN      = 1;
+    public static final int SHOT       = 2;
+    public static final int ALIEN_SHOT = 3;
+    /** 폭탄 (프레임 0 = 폭발 모습) */
+    public static final int BOMB       = 4;
+    public static final int LASER_ITEM = 5;
+    public static final int ASTEROID   = 6;
+    public static final int BLACK_HOLE = 7;
+    public static final int BOSS       = 8;
+    public static final int COUNT      = 9;
+
+    public static final String DEFAULT_SHIP_SPRITE = "sprites/ship.gif";
+
+    private final Prefab[] prefabs = new Prefab[COUNT];
+
+    private PrefabRegistry() { }
+
+    /**
+     * level의 원형 모음.
+     * @param shipRef 고른 기체 스프라이트 경로
+     */
+    public static PrefabRegistry forLevel(int level, String shipRef) {
+        LevelConfig cfg = LevelConfig.forLevel(level);
+        PrefabRegistry r = new PrefabRegistry();
+        r.prefabs[SHIP]       = sprite(shipRef, 0, 0);
+        r.prefabs[ALIEN]      = alien(cfg.alienSpeedMultiplier);
+        r.prefabs[SHOT]       = sprite("sprites/shot.gif", 0, ShotEntity.MOVE_SPEED);
+        r.prefabs[ALIEN_SHOT] = sprite("sprites/shot.gif", 0, AlienShotEntity.BULLET_SPEED);
+        r.prefabs[BOMB]       = bomb();
+        r.prefabs[LASER_ITEM] = sprite("sprites/shot.gif", 0, LaserEntity.ITEM_FALL_SPEED);
+        r.prefabs[ASTEROID]   = sprite("sprites/asteroid.png", 0, AsteroidEntity.FALL_SPEED);
+        r.prefabs[BLACK_HOLE] = sprite("sprites/blackhole.gif", 0, 0);
+        r.prefabs[BOSS]       = sprite("sprites/Boss.png", BossEntity.DEFAULT_SPEED, 0);
+        return r;
+    }
+
+    public Prefab get(int id) {
+        return prefabs[id];
+    }
+
+    // ===== 원형 생성 (스프라이트 조회는 여기서만) =====
+
+    /** 프레임 없는 원형 */
+    static Prefab sprite(String ref, double dx, double dy) {
+        Sprite s = (ref != null) ? SpriteStore.get().getSprite(ref) : null;
+        return new Prefab(ref, s, new Sprite[0], dx, dy);
+    }
+
+    /** 외계인: 기본 → 2 → 기본 → 3 프레임 순환, 왼쪽으로 출발 (속도 = 기본 75px/s × 레벨 배수) */
+    static Prefab alien(double speedMul) {
+        SpriteStore store = SpriteStore.get();
+        Sprite base = store.getSprite("sprites/alien.gif");
+        Sprite[] frames = {
+                base,
+                store.getSprite("sprites/alien2.gif"),
+                base,
+                store.getSprite("sprites/alien3.gif")
+        };
+        return new Prefab("sprites/alien.gif", base, frames, -AlienEntity.MOVE_SPEED * speedMul, 0);
+    }
+
+    /** 폭탄: 폭발 스프라이트는 png 우선, 없으면 gif (둘 다 없으면 폭발 모습 없음) */
+    static Prefab bomb() {
+        SpriteStore store = SpriteStore.get();
+        Sprite explosion = null;
+        try { explosion = store.getSprite("sprites/explosion.png"); } catch (RuntimeException ignore) {}
+        if (explosion == null) {
+            try { explosion = store.getSprite("sprites/explosion.gif"); } catch (RuntimeException ignore) {}
+        }
+        return new Prefab("sprites/bomb.png", store.getSprite("sprites/bomb.png"),
+                new Sprite[] { explosion }, 0, BombEntity.DROP_SPEED);
+    }
+}
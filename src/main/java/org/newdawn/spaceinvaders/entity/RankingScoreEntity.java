@@ -49,6 +49,9 @@ public class RankingScoreEntity extends Entity {
         }
     }
 
+    @Override
+    public int getCollisionLayer() { return LAYER_NONE; }
+
     @Override public void doLogic() { /* no-op */ }
 
     @Override public void collidedWith(Entity other) { /* no-op */ }
@@ -6,6 +6,9 @@ import org.newdawn.spaceinvaders.GameContext;
  * The entity that represents the player's ship.
  */
 public class ShipEntity extends Entity {
+    /** 외계인/적 총알과 닿으면 피격 */
+    public static final int COLLISION_MASK = layerBit(LAYER_ALIEN) | layerBit(LAYER_ALIEN_SHOT);
+
     /** The game context in which the ship exists (PlayScreen 등) */
     private final GameContext game;
 
@@ -18,7 +21,19 @@ public class ShipEntity extends Entity {
      * @param y    The initial y location of the player's ship
      */
     public ShipEntity(GameContext game, String ref, int x, int y) {
-        super(ref, x, y);
+        this(game, PrefabRegistry.sprite(ref, 0, 0), x, y);
+    }
+
+    /**
+     * Construct the player's ship from the level's prefab (sprite already resolved)
+     *
+     * @param game   The game context in which the ship is being created
+     * @param prefab The ship prefab from the PrefabRegistry
+     * @param x      The initial x location of the player's ship
+     * @param y      The initial y location of the player's ship
+     */
+    public ShipEntity(GameContext game, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
         this.game = game;
     }
 
@@ -49,11 +64,22 @@ public class ShipEntity extends Entity {
     public void collidedWith(Entity other) {
         // collisions with aliens or alien shots result in losing a heart
         if (other instanceof AlienEntity
-                || other.getClass().getSimpleName().equals("AlienShotEntity")) {
-            game.onPlayerHit();   // ★ 이전의 game.loseHeart() 대신 GameContext 메소드 호출
+                || other instanceof AlienShotEntity) {
+            hitByEnemy();
         }
     }
 
+    /** 외계인/적 총알과 충돌 */
+    void hitByEnemy() {
+        game.getEvents().hit(KIND_SHIP);   // ★ 이전의 game.loseHeart() 대신 이벤트 발행
+    }
+
+    @Override
+    public int getCollisionLayer() { return LAYER_SHIP; }
+
+    @Override
+    public int getKind() { return KIND_SHIP; }
+
     @Override
     public void doLogic() {
         // Ship has no periodic logic to update
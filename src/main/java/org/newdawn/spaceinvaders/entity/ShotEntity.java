@@ -6,7 +6,12 @@ import org.newdawn.spaceinvaders.GameContext;
  * 플레이어가 쏘는 총알 엔티티
  */
 public class ShotEntity extends Entity {
-    private static final double MOVE_SPEED = -300; // 위로 올라감
+    public static final int COLLISION_MASK = layerBit(LAYER_ALIEN);
+
+    static final double MOVE_SPEED = -300; // 위로 올라감
+
+    /** 화면 위로 벗어나면 제거 */
+    private static final CullPolicy CULL = CullPolicy.above(-100);
 
     // 🔹 이제 Game이 아니라 GameContext(PlayScreen 등)를 참조
     private final GameContext ctx;
@@ -14,40 +19,52 @@ public class ShotEntity extends Entity {
     private boolean used = false;
 
     public ShotEntity(GameContext ctx, String sprite, int x, int y) {
-        super(sprite, x, y);
+        this(ctx, PrefabRegistry.sprite(sprite, 0, MOVE_SPEED), x, y);
+    }
+
+    public ShotEntity(GameContext ctx, Prefab prefab, int x, int y) {
+        super(prefab, x, y);
         this.ctx = ctx;
+    }
+
+    /** 풀에서 다시 꺼낼 때 새로 만든 것과 같은 상태로 */
+    public void reset(int x, int y) {
+        resetPosition(x, y);
         this.dy = MOVE_SPEED;
+        this.used = false;
     }
 
-    /** 이동 처리 */
     @Override
-    public void move(long delta) {
-        super.move(delta);
-
-        // 화면 위로 벗어나면 제거
-        if (y < -100) {
-            ctx.removeEntity(this);   // GameContext.removeEntity(...)
-        }
-    }
+    public CullPolicy getCullPolicy() { return CULL; }
 
     /** 충돌 처리 */
     @Override
     public void collidedWith(Entity other) {
-        if (used) return;
-
         // 🔹 에일리언과 충돌 시
         if (other instanceof AlienEntity) {
-            used = true;
+            hitAlien(other);
+        }
+    }
 
-            int cx = other.getX() + other.getWidth()  / 2;
-            int cy = other.getY() + other.getHeight() / 2;
+    /** 에일리언 명중: 총알/에일리언 제거 후 처치 알림 (총알 하나당 한 번만) */
+    void hitAlien(Entity alien) {
+        if (used) return;
+        used = true;
 
-            ctx.removeEntity(this);
-            ctx.removeEntity(other);
-            ctx.onAlienKilledAt(cx, cy);
-        }
+        int cx = alien.getX() + alien.getWidth()  / 2;
+        int cy = alien.getY() + alien.getHeight() / 2;
+
+        ctx.removeEntity(this);
+        ctx.removeEntity(alien);
+        ctx.getEvents().kill(cx, cy);
     }
 
+    @Override
+    public int getCollisionLayer() { return LAYER_PLAYER_SHOT; }
+
+    @Override
+    public int getKind() { return KIND_SHOT; }
+
     /** 추상 메서드 구현 (Entity 상속 필수) */
     @Override
     public void doLogic() {
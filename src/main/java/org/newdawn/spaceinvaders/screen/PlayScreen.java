@@ -3,9 +3,6 @@ package org.newdawn.spaceinvaders.screen;
 import org.newdawn.spaceinvaders.*;
 import org.newdawn.spaceinvaders.entity.*;
 
-import java.awt.Color;
-import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
@@ -27,8 +24,25 @@ public class PlayScreen implements Screen, GameContext {
     // 인게임 엔티티 / 월드
     private final List<Entity> entities   = new ArrayList<>();
     private final List<Entity> removeList = new ArrayList<>();
+    /** 폭탄이 지우거나 피해를 주는 대상 */
+    private static final int BLAST_TARGETS =
+            Entity.kindBit(Entity.KIND_ALIEN) | Entity.kindBit(Entity.KIND_ALIEN_SHOT)
+            | Entity.kindBit(Entity.KIND_ASTEROID) | Entity.kindBit(Entity.KIND_BOSS);
     private final World world;
     private final SpawnManager spawnManager;
+    /** 이 런의 게임 시각 (World/엔티티/스폰/쿨다운/토스트가 모두 읽는다) */
+    private final GameClock clock = new GameClock();
+    private static volatile double timeScaleDefault = 1.0;
+
+    // 한 틱 단계 목록 (buildFramePhases)
+    private final FramePhases framePhases = new FramePhases();
+    private long tickDelta;
+
+    /** 이번 레벨 엔티티 원형 (스프라이트/크기/기본 속도) */
+    private final PrefabRegistry prefabs;
+
+    /** 처치/피격/줍기/보스 처치 이벤트 (충돌·로직 중 발행, "events" 단계에서 처리) */
+    private final GameEvents events = new GameEvents();
 
     // 플레이어
     private Entity ship;
@@ -39,17 +53,20 @@ public class PlayScreen implements Screen, GameContext {
 
     // 이동/공격 파라미터
     private double moveSpeed      = 300;
-    private long   lastFire       = 0;
+    /** 쿨다운 기록의 "아직 안 씀" 값 (게임 시계는 0부터 시작하므로 0을 쓰면 첫 사용이 막힌다) */
+    private static final long NEVER = Long.MIN_VALUE / 4;
+
+    private long   lastFire       = NEVER;
     private long   firingInterval = 500;
 
     // 폭탄
-    private long lastBombFire     = 0;
+    private long lastBombFire     = NEVER;
     private long bombFireInterval = 400;
     private int  bombCount        = 0;
     private final int bombMax     = 2;
 
     // 레이저
-    private long lastLaserUse     = 0;
+    private long lastLaserUse     = NEVER;
     private long laserCooldown    = 500;
     private int  laserCount       = 0;
     private final int laserMax    = 1;
@@ -60,7 +77,8 @@ public class PlayScreen implements Screen, GameContext {
     private int       score    = 0;
 
     // 보스
-    private BossEntity boss;
+    /** 보스 세대 핸들 (없으면 Entity.NO_HANDLE) — 틱을 넘겨 들고 있으므로 참조 대신 핸들 */
+    private long bossHandle = Entity.NO_HANDLE;
     private boolean bossSpawned  = false;
     private boolean bossDefeated = false;
 
@@ -73,11 +91,18 @@ public class PlayScreen implements Screen, GameContext {
     private float blackHoleRadius = 180f;
     private long  blackHoleLifeMs = 7000L;
 
-    private final Random rng = new Random();
+    /** 런 시드 (같은 시드 + 같은 입력이면 같은 런, 리플레이/락스텝용) */
+    private final long seed;
+    private final Random rng;
 
     // 토스트 메시지
     private String toastText  = null;
     private long   toastUntil = 0;
+    private long   toastTimer = TimerWheel.NO_TIMER;
+    private final TimerWheel.Action clearToast = arg -> toastText = null;
+
+    // 단일 스레드 렌더 시 HUD 값을 담아 그리는 용도 (재사용)
+    private final RenderSnapshot directHud = new RenderSnapshot();
 
     // 런 통계
     private int  totalKills       = 0;
@@ -92,12 +117,18 @@ public class PlayScreen implements Screen, GameContext {
 
     // 기체 #3 방어막 관련
     private boolean shieldActive         = false;
-    private long    invulnUntil          = 0;
+    private boolean invulnerable         = false;
+    private long    invulnTimer          = TimerWheel.NO_TIMER;
+    private final TimerWheel.Action endInvuln = arg -> invulnerable = false;
     private int     killsSinceLastShield = 0;
 
     // 입력 상태
     private final InputState input = new InputState();
 
+    // 런 종료 여부 (헤드리스 모드에서는 화면 전환 대신 이 플래그로 판단)
+    private boolean runOver = false;
+    private boolean runWon  = false;
+
     // 적/유성/블랙홀 스폰 간격 (SpawnManager에서 사용)
     private long alienFireIntervalMs = 1200;   // 기본값: 1.2초
     private long asteroidIntervalMs  = 3000;   // 기본값: 3초
@@ -105,13 +136,37 @@ public class PlayScreen implements Screen, GameContext {
 
 
     public PlayScreen(Game game, int level, int shipIndex) {
+        this(game, level, shipIndex, game.getLvLaser(), new Random().nextLong());
+    }
+
+    /**
+     * 창/Game 없이 돌아가는 헤드리스 인게임 화면 생성.
+     * 런이 끝나도 메뉴로 전환하지 않고 isRunOver()만 true가 된다.
+     * (SpriteStore는 미리 헤드리스 모드여야 함)
+     */
+    public static PlayScreen createHeadless(int level, int shipIndex, int lvLaser) {
+        return createHeadless(level, shipIndex, lvLaser, new Random().nextLong());
+    }
+
+    /** 시드를 정한 헤드리스 화면 (스폰/드랍/사수 선택 난수가 모두 이 시드에서 나온다) */
+    public static PlayScreen createHeadless(int level, int shipIndex, int lvLaser, long seed) {
+        return new PlayScreen(null, level, shipIndex, lvLaser, seed);
+    }
+
+    private PlayScreen(Game game, int level, int shipIndex, int lvLaser, long seed) {
         this.game = game;
-        this.lvLaser = game.getLvLaser();
+        this.lvLaser = lvLaser;
         this.selectedLevel = level;
         this.selectedShipIndex = shipIndex;
+        this.seed = seed;
+        this.rng  = RandomStreams.create(seed, RandomStreams.PLAY);
+        this.clock.setTimeScale(timeScaleDefault);
 
-        this.spawnManager = new SpawnManager(this);
+        this.spawnManager = new SpawnManager(this, RandomStreams.create(seed, RandomStreams.SPAWN));
         this.world        = new World(this, entities, removeList, spawnManager);
+        this.world.setRandomSeed(seed);
+        this.prefabs      = PrefabRegistry.forLevel(level, shipSpriteFor(shipIndex));
+        this.world.setPrefabs(prefabs);
 
         LevelConfig cfg = LevelConfig.forLevel(level);
         this.levelBombDrop      = cfg.bombDropRate;
@@ -120,7 +175,42 @@ public class PlayScreen implements Screen, GameContext {
 
 
         initEntitiesForLevel(level, shipIndex);
-        this.runStartTime = SystemTimer.getTime();
+        this.runStartTime = clock.now();
+        spawnManager.start(runStartTime);
+        subscribeEvents();
+        buildFramePhases();
+        writeHud(directHud);
+    }
+
+    /**
+     * 한 틱을 이루는 단계를 순서대로 등록한다. 모든 단계가 엔티티 상태를 건드리므로 순서가 곧 의존이다.
+     * 입력 처리는 발사(엔티티 추가)를 하므로 이동 전에, 타이머(수명 만료/스폰/보스 사격/
+     * 무적·토스트 해제)는 이동이 쓴 위치를 보고 스폰하므로 이동 뒤, 충돌 전에 돈다.
+     * 화면 밖 정리는 이동 단계 끝, broad phase 재구성은 충돌 단계 안에 있다.
+     * 입력~로직이 발행한 게임 이벤트는 "events"에서 한꺼번에 처리한 뒤 승패를 확인하고,
+     * HUD는 보스 체력(엔티티)을 읽으므로 제거 반영 전에 채운다.
+     */
+    private void buildFramePhases() {
+        framePhases.add("input", () -> processPlayerInput(tickDelta));
+        // 레이저 빔은 이동 중 판정해 점수를 올린다
+        framePhases.add("move", () -> world.moveAll(tickDelta));
+        framePhases.add("timers", clock::runTimers);
+        framePhases.add("collide", world::handleCollisions);
+        framePhases.add("logic", world::applyLogicIfNeeded);
+        framePhases.add("events", events::dispatch);
+        framePhases.add("winCheck", this::checkWinCondition);
+        framePhases.add("hud", () -> writeHud(directHud));
+        framePhases.add("flush", world::flushRemovals);
+    }
+
+    /** 이후 만들어지는 PlayScreen의 배속 (실행 인자 --time-scale=X, 벤치마크/빨리 감기용) */
+    public static void setTimeScaleDefault(double scale) {
+        timeScaleDefault = scale;
+    }
+
+    /** 단계별 소요 시간 (헤드리스 시뮬레이션/프로파일링용) */
+    public FramePhases getFramePhases() {
+        return framePhases;
     }
 
     /** 레벨별 파라미터 적용 (필요하면 Game의 기존 로직과 맞춰도 됨) */
@@ -156,24 +246,24 @@ public class PlayScreen implements Screen, GameContext {
         }
     }
 
-    /** 이 레벨에 맞는 ship과 alien들을 배치 */
-    private void initEntitiesForLevel(int level, int shipIndex) {
-        // 1) ship 스프라이트 결정
-        String shipImage;
+    /** 기체 번호별 스프라이트 */
+    private static String shipSpriteFor(int shipIndex) {
         switch (shipIndex) {
-            case 1: shipImage = "sprites/ship2.png"; break;
-            case 2: shipImage = "sprites/ship3.png"; break;
+            case 1: return "sprites/ship2.png";
+            case 2: return "sprites/ship3.png";
             case 0:
-            default: shipImage = "sprites/ship.gif"; break;
+            default: return PrefabRegistry.DEFAULT_SHIP_SPRITE;
         }
+    }
 
+    /** 이 레벨에 맞는 ship과 alien들을 배치 */
+    private void initEntitiesForLevel(int level, int shipIndex) {
+        // 1) ship (스프라이트는 원형 모음을 만들 때 기체 번호로 골라 둠)
         // ★ Game이 아니라 PlayScreen(this)을 GameContext로 넘겨야 함
-        ship = new ShipEntity(this, shipImage, 370, 550);
-        entities.add(ship);
-
-        // 2) 에일리언 생성 + 레벨별 속도 배수
-        double spMul = levelAlienSpeedMul;
+        ship = new ShipEntity(this, prefabs.get(PrefabRegistry.SHIP), 370, 550);
+        world.addEntity(ship);
 
+        // 2) 에일리언 생성 (레벨별 속도 배수는 외계인 원형에 반영돼 있음)
         int rows   = 5;
         int cols   = 12;
         int startX = 100;
@@ -181,12 +271,12 @@ public class PlayScreen implements Screen, GameContext {
         int dx     = 50;
         int dy     = 30;
 
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                AlienEntity alien = new AlienEntity(this, startX + c * dx, startY + r * dy);
-                alien.setHorizontalMovement(alien.getHorizontalMovement() * spMul);
-                entities.add(alien);
-            }
+        // 편대가 위치/속도/생존 여부를 한 번에 관리하고, 외계인 엔티티는 그리기/판정용으로 등록
+        AlienFormation formation = new AlienFormation(this, prefabs.get(PrefabRegistry.ALIEN),
+                rows, cols, startX, startY, dx, dy);
+        world.setAlienFormation(formation);
+        for (int i = 0; i < rows * cols; i++) {
+            world.addEntity(formation.getAlien(i));
         }
     }
 
@@ -212,19 +302,7 @@ public class PlayScreen implements Screen, GameContext {
     @Override
     public boolean fireRandomAlienShot() {
         // 현재 화면(PlayScreen)에 살아있는 Alien들 중 랜덤 선택
-        List<Entity> aliens = new ArrayList<>();
-        for (Entity e : entities) {
-            if (e instanceof AlienEntity) {
-                aliens.add(e);
-            }
-        }
-        if (aliens.isEmpty()) return false;
-
-        Entity shooter = aliens.get(rng.nextInt(aliens.size()));
-        int sx = (int) (shooter.getX() + 12);
-        int sy = (int) (shooter.getY() + 20);
-        entities.add(new AlienShotEntity(this, "sprites/shot.gif", sx, sy));
-        return true;
+        return world.fireRandomAlienShot(rng);
     }
 
     @Override
@@ -248,17 +326,36 @@ public class PlayScreen implements Screen, GameContext {
 
     @Override
     public void addEntity(Entity e) {
-        entities.add(e);
+        world.addEntity(e);
+    }
+
+    @Override
+    public void spawnAlienShot(int x, int y, double horizontalSpeed) {
+        world.spawnAlienShot(x, y, horizontalSpeed);
     }
 
     @Override
     public void removeEntity(Entity e) {
-        removeList.add(e);
+        world.removeEntity(e);
     }
 
     @Override
-    public void onAlienKilledAt(int cx, int cy) {
-        // 점수, 드랍, 도전과제 등 이쪽으로 이사
+    public GameEvents getEvents() {
+        return events;
+    }
+
+    /** 이벤트 구독: 처치 보상 → 드랍 → 피격 → 줍기 → 보스 처치 순서로 각자 이번 틱 몫을 처리 */
+    private void subscribeEvents() {
+        events.subscribe(GameEvents.bit(GameEvents.KILL),   (type, x, y, ref) -> onAlienKilled());
+        events.subscribe(GameEvents.bit(GameEvents.KILL),   (type, x, y, ref) -> rollDrops(x, y));
+        events.subscribe(GameEvents.bit(GameEvents.HIT),    (type, x, y, ref) -> onPlayerHit(x));
+        events.subscribe(GameEvents.bit(GameEvents.PICKUP), (type, x, y, ref) -> onPickup(x, ref));
+        events.subscribe(GameEvents.bit(GameEvents.BOSS_DEFEATED),
+                (type, x, y, ref) -> onBossDefeated(ref));
+    }
+
+    /** 처치 보상: 점수, 도전과제, 방어막 스택, 편대 가속 */
+    private void onAlienKilled() {
         totalKills++;
 
         if (!achKill10 && totalKills >= 10) {
@@ -276,51 +373,61 @@ public class PlayScreen implements Screen, GameContext {
             }
         }
 
-        // 남은 Alien들 약간씩 가속
-        for (Entity e : entities) {
-            if (e instanceof AlienEntity) {
-                e.setHorizontalMovement(e.getHorizontalMovement() * 1.02);
-            }
+        // 남은 Alien들 약간씩 가속 (편대 속도 하나만 바꾸면 됨)
+        AlienFormation formation = world.getAlienFormation();
+        if (formation != null) {
+            formation.scaleSpeed(1.02);
         }
 
         // 점수/코인 (간단히 점수만 올리고 싶다면 이렇게)
         addScore(100);
+    }
 
-        // 드랍(폭탄/레이저)
-        if (cx >= 0) {
-            if (rng.nextDouble() < levelBombDrop) {
-                int spriteHalf = 12;
-                spawnBombItemAt(cx - spriteHalf, cy - spriteHalf);
-            }
-            if (rng.nextDouble() < levelLaserDrop) {
-                int spriteHalf = 12;
-                spawnLaserItemAt(cx - spriteHalf, cy - spriteHalf);
-            }
+    /** 드랍(폭탄/레이저): 처치 위치가 있을 때만 */
+    private void rollDrops(int cx, int cy) {
+        if (cx < 0) return;
+        if (rng.nextDouble() < levelBombDrop) {
+            int spriteHalf = 12;
+            spawnBombItemAt(cx - spriteHalf, cy - spriteHalf);
+        }
+        if (rng.nextDouble() < levelLaserDrop) {
+            int spriteHalf = 12;
+            spawnLaserItemAt(cx - spriteHalf, cy - spriteHalf);
         }
     }
 
-    @Override
-    public void onBossDefeated(BossEntity b) {
-        if (boss == b) {
+    private void onBossDefeated(long handle) {
+        if (bossHandle != Entity.NO_HANDLE && handle == bossHandle) {
             bossDefeated = true;
             addScore(1000);
             showToast("보스를 처치했습니다!", 2000);
         }
     }
 
-    @Override
-    public void onPlayerHit() {
-        long now = SystemTimer.getTime();
+    /** 아이템 줍기: 가방에 들어가면 아이템 제거 (같은 틱에 이미 주운 아이템은 무시) */
+    private void onPickup(int itemKind, long handle) {
+        Entity item = world.resolve(handle);
+        if (item == null || item.isRemoved()) return;
+        boolean taken = (itemKind == Entity.KIND_BOMB) ? collectBomb() : collectLaser();
+        if (taken) {
+            world.removeEntity(handle);
+        }
+    }
+
+    /** 피격. 적 총알은 무적 중이면 무시 (배 쪽 충돌은 기체 #3만 무적을 본다 — 기존 규칙) */
+    private void onPlayerHit(int sourceKind) {
+        if (sourceKind == Entity.KIND_ALIEN_SHOT && invulnerable) return;
+        long now = clock.now();
 
         // 기체 #3: 방어막이 켜져 있으면 한 번은 막기
         if (selectedShipIndex == 2) {
-            if (now < invulnUntil) {
+            if (invulnerable) {
                 // 이미 무적
                 return;
             }
             if (shieldActive) {
                 shieldActive = false;
-                invulnUntil  = now + 1000;
+                startInvulnerability(now, 1000);
                 showToast("Block!", 1200);
                 return;
             }
@@ -329,18 +436,18 @@ public class PlayScreen implements Screen, GameContext {
         // 일반 피격 처리
         lives = Math.max(0, lives - 1);
         if (lives > 0) {
-            invulnUntil = now + 1000;
+            startInvulnerability(now, 1000);
             showToast("Hit! 남은 목숨: " + lives, 1200);
             return;
         }
 
         // 목숨 모두 소진 → 게임 오버
-        lastRunElapsedMs = (runStartTime == 0) ? -1 : (now - runStartTime);
+        lastRunElapsedMs = now - runStartTime;
         showToast("Out of lives! Try again?", 1500);
 
         // TODO: 여기서 Game에 "게임 오버" 콜백을 줘서 세이브/랭킹 처리해도 됨.
         // 예: game.onRunGameOverFromPlayScreen(this);
-        game.setCurrentScreen(new MainMenuScreen(game));
+        endRun(false);
     }
 
     @Override
@@ -348,33 +455,20 @@ public class PlayScreen implements Screen, GameContext {
         int baseRadius = 160;
         int radius     = baseRadius; // 강화 시스템까지 옮기고 싶으면 여기에 레벨 반영
 
-        List<Entity> toRemove = new ArrayList<>();
-        for (Entity e : entities) {
-            if (e instanceof AlienEntity ||
-                    e instanceof AlienShotEntity ||
-                    e instanceof AsteroidEntity) {
-
-                double ex = e.getX() + e.getWidth() / 2.0;
-                double ey = e.getY() + e.getHeight() / 2.0;
-                double dx = ex - cx;
-                double dy = ey - cy;
-                if (dx*dx + dy*dy <= (long) radius * radius) {
-                    toRemove.add(e);
-                }
-            } else if (e instanceof BossEntity) {
-                double ex = e.getX() + e.getWidth() / 2.0;
-                double ey = e.getY() + e.getHeight() / 2.0;
-                double dx = ex - cx;
-                double dy = ey - cy;
-                if (dx*dx + dy*dy <= (long) radius * radius) {
-                    ((BossEntity) e).takeDamage(80);
-                }
+        List<Entity> areaHits = world.getScratch().entities();
+        world.queryCircle(cx, cy, radius, BLAST_TARGETS, areaHits);
+
+        for (int i = 0; i < areaHits.size(); i++) {
+            Entity e = areaHits.get(i);
+            if (e.getKind() == Entity.KIND_BOSS) {
+                ((BossEntity) e).takeDamage(80);
             }
         }
-
-        for (Entity e : toRemove) {
-            if (e instanceof AlienEntity) {
-                onAlienKilledAt(-1, -1);
+        for (int i = 0; i < areaHits.size(); i++) {
+            Entity e = areaHits.get(i);
+            if (e.getKind() == Entity.KIND_BOSS) continue;
+            if (e.getKind() == Entity.KIND_ALIEN) {
+                events.kill(-1, -1);
             }
             removeEntity(e);
         }
@@ -384,11 +478,18 @@ public class PlayScreen implements Screen, GameContext {
 
     @Override
     public boolean isPlayerInvincible() {
-        return SystemTimer.getTime() < invulnUntil;
+        return invulnerable;
     }
 
-    @Override
-    public boolean collectBomb() {
+    /** durationMs 동안 무적 (이미 무적이면 해제 타이머를 새로 건다) */
+    private void startInvulnerability(long now, long durationMs) {
+        TimerWheel timers = clock.getTimers();
+        timers.cancel(invulnTimer);
+        invulnerable = true;
+        invulnTimer  = timers.schedule(now + durationMs, endInvuln, 0);
+    }
+
+    private boolean collectBomb() {
         if (bombCount < bombMax) {
             bombCount++;
             showToast("폭탄 획득! (" + bombCount + "/" + bombMax + ")", 800);
@@ -399,8 +500,7 @@ public class PlayScreen implements Screen, GameContext {
         }
     }
 
-    @Override
-    public boolean collectLaser() {
+    private boolean collectLaser() {
         if (laserCount < laserMax) {
             laserCount = 1;
             showToast("레이저 획득! (L키로 사용)", 900);
@@ -444,40 +544,89 @@ public class PlayScreen implements Screen, GameContext {
 
     @Override
     public void update(long delta) {
-        // 1) 입력 처리
-        processPlayerInput(delta);
+        if (runOver) return;
 
+        // 배속/일시정지를 거친 시간을 한 틱씩 꺼내 돌린다 (빨리 감기면 여러 틱, 멈춤/모자라면 0틱)
+        clock.feed(delta);
+        long d;
+        while (!runOver && (d = clock.take(Game.SIM_TICK_MS)) > 0) {
+            // 입력 → 이동 → 타이머 → 충돌 → 로직 → 승패 확인 → HUD 값 → 제거 반영 (buildFramePhases)
+            tickDelta = d;
+            framePhases.run();
+        }
+    }
 
-        world.moveAll(delta);
-
-        long now = SystemTimer.getTime();
+    @Override
+    public void render(Graphics2D g) {
+        render(g, 1.0);
+    }
 
-        spawnManager.update(now);
+    @Override
+    public void render(Graphics2D g, double alpha) {
+        // 1) 엔티티 그리기 (직전 틱 ~ 현재 틱 사이 보간 위치)
+        // 제거 예약됐거나 화면 밖(보간 구간 포함)인 엔티티는 건너뜀
+        for (Entity e : entities) {
+            if (e.isRemoved() || !e.isOnScreen(VIRTUAL_WIDTH, VIRTUAL_HEIGHT)) continue;
+            e.drawInterpolated(g, alpha);
+        }
 
-        world.handleCollisions();
-        world.applyLogicIfNeeded();
+        // 2) 보스 HP 바 / HUD / 토스트 (값은 틱 단계 "hud"가 채워 둠)
+        directHud.drawHud(g, VIRTUAL_WIDTH, VIRTUAL_HEIGHT, clock.now());
+    }
 
-        checkWinCondition();
+    /**
+     * 보간 비율을 게임 시계 기준으로 바꾼다: 시계에 밀린 시간 + 아직 안 넘긴 실제 시간(배속 적용)을
+     * 한 틱 길이로 나눈 값. 슬로모션에서는 여러 프레임에 걸쳐 천천히 0→1로 가고,
+     * 일시정지 중에는 틱이 돌지 않으므로 마지막 틱 결과(1)에 머문다.
+     */
+    @Override
+    public double renderAlpha(double frameAlpha) {
+        if (clock.isPaused()) return 1.0;
+        double pending = clock.getOwedMs() + frameAlpha * Game.SIM_TICK_MS * clock.getTimeScale();
+        return Math.max(0.0, Math.min(1.0, pending / Game.SIM_TICK_MS));
+    }
 
-        world.flushRemovals();
+    @Override
+    public double renderAlphaRate() {
+        return clock.isPaused() ? 0.0 : clock.getTimeScale();
+    }
 
+    @Override
+    public boolean usesSnapshots() {
+        return true;
     }
 
     @Override
-    public void render(Graphics2D g) {
-        // 1) 엔티티 그리기
+    public boolean writeSnapshot(RenderSnapshot out) {
+        out.clear();
         for (Entity e : entities) {
-            e.draw(g);
+            if (e.isRemoved() || !e.isOnScreen(VIRTUAL_WIDTH, VIRTUAL_HEIGHT)) continue;
+            e.appendTo(out);
         }
+        out.hasEntities = true;
+        writeHud(out);
+        return true;
+    }
 
-        // 2) 보스 HP 바
-        drawBossHP(g);
-
-        // 3) 간단 HUD (목숨/폭탄/레이저/점수)
-        drawHud(g);
-
-        // 4) 토스트 메시지
-        drawToast(g);
+    /** HUD에 필요한 값만 스냅샷으로 복사 */
+    private void writeHud(RenderSnapshot out) {
+        out.lives      = lives;
+        out.maxLives   = maxLives;
+        out.bombCount  = bombCount;
+        out.bombMax    = bombMax;
+        out.laserCount = laserCount;
+        out.laserMax   = laserMax;
+        out.score      = score;
+        BossEntity boss = (BossEntity) world.resolve(bossHandle);
+        if (boss != null && !boss.isDead()) {
+            out.bossHp    = boss.getHP();
+            out.bossMaxHp = boss.getMaxHP();
+        } else {
+            out.bossHp = out.bossMaxHp = 0;
+        }
+        out.toastText  = toastText;
+        out.toastUntil = toastUntil;
+        out.clockMs    = clock.now();
     }
 
     @Override
@@ -487,6 +636,10 @@ public class PlayScreen implements Screen, GameContext {
 
     @Override
     public void onKeyPressed(KeyEvent e) {
+        if (e.getKeyCode() == KeyEvent.VK_P) {
+            clock.setPaused(!clock.isPaused());
+            return;
+        }
         input.onKeyPressed(e);
     }
 
@@ -495,6 +648,22 @@ public class PlayScreen implements Screen, GameContext {
         input.onKeyReleased(e);
     }
 
+    // ========================================================
+    // 런 상태 조회 (헤드리스 시뮬레이션/테스트용)
+    // ========================================================
+
+    public InputState getInput() { return input; }
+    public boolean isRunOver()   { return runOver; }
+    public boolean isRunWon()    { return runWon; }
+    public int getScore()        { return score; }
+    public int getLives()        { return lives; }
+    public int getTotalKills()   { return totalKills; }
+    public World getWorld()      { return world; }
+    public long getSeed()        { return seed; }
+
+    @Override
+    public GameClock getClock()  { return clock; }
+
     // ========================================================
     // 인게임 로직 내부 메서드들
     // ========================================================
@@ -529,21 +698,15 @@ public class PlayScreen implements Screen, GameContext {
 
     private void tryToFire() {
         if (ship == null) return;
-        if (System.currentTimeMillis() - lastFire < firingInterval) return;
-        lastFire = System.currentTimeMillis();
+        if (clock.now() - lastFire < firingInterval) return;
+        lastFire = clock.now();
 
         if (selectedShipIndex == 1) {
-            ShotEntity L = new ShotEntity(this, "sprites/shot.gif",
-                    (int) (ship.getX() + 4), (int) (ship.getY() - 30));
-            ShotEntity R = new ShotEntity(this, "sprites/shot.gif",
-                    (int) (ship.getX() + 16), (int) (ship.getY() - 30));
-            entities.add(L);
-            entities.add(R);
+            world.spawnShot((int) (ship.getX() + 4), (int) (ship.getY() - 30));
+            world.spawnShot((int) (ship.getX() + 16), (int) (ship.getY() - 30));
             shotsFiredRun += 2;
         } else {
-            ShotEntity shot = new ShotEntity(this, "sprites/shot.gif",
-                    (int) (ship.getX() + 10), (int) (ship.getY() - 30));
-            entities.add(shot);
+            world.spawnShot((int) (ship.getX() + 10), (int) (ship.getY() - 30));
             shotsFiredRun += 1;
         }
     }
@@ -557,7 +720,7 @@ public class PlayScreen implements Screen, GameContext {
             return;
         }
 
-        long now = System.currentTimeMillis();
+        long now = clock.now();
         if (now - lastBombFire < bombFireInterval) {
             return;
         }
@@ -566,9 +729,7 @@ public class PlayScreen implements Screen, GameContext {
         int bx = (int) (ship.getX() + ship.getWidth() / 2.0 - 8);
         int by = (int) (ship.getY() - 20);
 
-        BombEntity proj = new BombEntity(this, bx, by);
-        proj.setMode(BombEntity.Mode.PROJECTILE);
-        entities.add(proj);
+        world.spawnBomb(bx, by, BombEntity.Mode.PROJECTILE);
 
         bombCount--;
     }
@@ -580,18 +741,18 @@ public class PlayScreen implements Screen, GameContext {
             showToast("레이저가 없습니다!", 800);
             return;
         }
-        if (System.currentTimeMillis() - lastLaserUse < laserCooldown) return;
+        if (clock.now() - lastLaserUse < laserCooldown) return;
 
-        lastLaserUse = System.currentTimeMillis();
+        lastLaserUse = clock.now();
         laserCount   = 0;
 
         int cx = getShipCenterX();
-        entities.add(LaserEntity.createActiveBeam(this, cx, 500));
+        world.spawnLaserBeam(cx, 500);
         showToast("LASER!", 300);
     }
 
     public void tickLaserAt(int cx, int halfWidth) {
-        int extra  = UpgradeBalance.laserHalfWidthWithUpgrade(0, game.getLvLaser());
+        int extra  = UpgradeBalance.laserHalfWidthWithUpgrade(0, lvLaser);
         int killed = (world != null) ? world.tickLaserAt(cx, halfWidth, extra) : 0;
 
         for (int i = 0; i < killed; i++) {
@@ -609,11 +770,11 @@ public class PlayScreen implements Screen, GameContext {
     }
 
     private void spawnBombItemAt(int x, int y) {
-        entities.add(new BombEntity(this, x, y));
+        world.spawnBomb(x, y, BombEntity.Mode.DROP);
     }
 
     private void spawnLaserItemAt(int x, int y) {
-        entities.add(LaserEntity.createDropItem(this, x, y));
+        world.spawnLaserItem(x, y);
     }
 
     public float getBlackHoleSpeedScaleFor(double cx, double cy) {
@@ -622,10 +783,7 @@ public class PlayScreen implements Screen, GameContext {
     }
 
     private void checkWinCondition() {
-        int aliveAliens = 0;
-        for (Entity e : entities) {
-            if (e instanceof AlienEntity) aliveAliens++;
-        }
+        int aliveAliens = world.countOf(Entity.KIND_ALIEN);
         if (aliveAliens == 0) {
             if (!bossSpawned) {
                 spawnBoss();
@@ -638,8 +796,8 @@ public class PlayScreen implements Screen, GameContext {
     }
 
     private void notifyWin() {
-        long now     = SystemTimer.getTime();
-        long elapsed = (runStartTime == 0) ? 0 : (now - runStartTime);
+        long now     = clock.now();
+        long elapsed = now - runStartTime;
         lastRunElapsedMs = elapsed;
 
         int bonus     = lives * 500;
@@ -663,79 +821,40 @@ public class PlayScreen implements Screen, GameContext {
 
         // TODO: 여기서 Game에 "승리했다" 콜백을 줘서 세이브/랭킹/강화/코인 처리해도 됨.
         // 예: game.onRunWinFromPlayScreen(this, score, elapsed, totalKills, shotsFiredRun, lives, ach…);
-        game.setCurrentScreen(new MainMenuScreen(game));
+        endRun(true);
+    }
+
+    /** 런 종료 처리: Game이 있으면 메뉴로, 헤드리스면 플래그만 세운다 */
+    private void endRun(boolean won) {
+        runOver = true;
+        runWon  = won;
+        if (game != null) {
+            game.setCurrentScreen(new MainMenuScreen(game));
+        }
     }
 
     private void spawnBoss() {
         if (bossSpawned) return;
         int bx = (VIRTUAL_WIDTH - 120) / 2;
         int by = 60;
-        boss = new BossEntity(this, bx, by);
-        entities.add(boss);
+        BossEntity boss = new BossEntity(this, prefabs.get(PrefabRegistry.BOSS), bx, by);
+        world.addEntity(boss);
+        bossHandle = world.handleOf(boss);
         bossSpawned = true;
         showToast("보스 등장!", 1500);
     }
 
     // ========================================================
-    // HUD / 토스트
+    // 토스트
     // ========================================================
 
-    private void drawHud(Graphics2D g) {
-        g.setColor(Color.WHITE);
-        g.setFont(new Font("SansSerif", Font.BOLD, 14));
-
-        g.drawString("Lives: " + lives + " / " + maxLives, 10, 20);
-        g.drawString("Bomb: " + bombCount + "/" + bombMax + " (B)", 10, 40);
-        g.drawString("Laser: " + laserCount + "/" + laserMax + " (L)", 10, 60);
-        g.drawString("Score: " + score, 10, 80);
-    }
-
-    private void drawBossHP(Graphics2D g) {
-        if (boss == null || boss.isDead()) return;
-
-        int cur = boss.getHP();
-        int max = boss.getMaxHP();
-
-        int barW = 400;
-        int barH = 14;
-        int x    = (VIRTUAL_WIDTH - barW) / 2;
-        int y    = 36;
-
-        g.setColor(new Color(0, 0, 0, 160));
-        g.fillRoundRect(x - 2, y - 2, barW + 4, barH + 4, 8, 8);
-
-        double ratio = Math.max(0, Math.min(1.0, cur / (double) max));
-        int fill     = (int) (barW * ratio);
-
-        g.setColor(new Color(200, 50, 50));
-        g.fillRoundRect(x, y, fill, barH, 8, 8);
-
-        g.setColor(Color.WHITE);
-        g.drawString("BOSS", x, y - 6);
-    }
-
-    private void drawToast(Graphics2D g) {
-        if (toastText == null || SystemTimer.getTime() > toastUntil) {
-            return;
-        }
-
-        g.setFont(new Font("SansSerif", Font.BOLD, 16));
-        FontMetrics fm = g.getFontMetrics();
-        int textW = fm.stringWidth(toastText);
-        int textH = fm.getHeight();
-        int x = (VIRTUAL_WIDTH - textW) / 2;
-        int y = VIRTUAL_HEIGHT - 60;
-
-        g.setColor(new Color(0, 0, 0, 150));
-        g.fillRoundRect(x - 10, y - textH, textW + 20, textH + 10, 10, 10);
-
-        g.setColor(Color.WHITE);
-        g.drawString(toastText, x, y);
-    }
-
+    /** 토스트 표시. 끝나는 시각에 타이머가 지우고, 그리는 쪽은 그 사이 프레임에서 toastUntil로 가린다 */
     private void showToast(String msg, long durationMs) {
+        TimerWheel timers = clock.getTimers();
+        timers.cancel(toastTimer);
         toastText  = msg;
-        toastUntil = SystemTimer.getTime() + durationMs;
+        toastUntil = clock.now() + durationMs;
+        toastTimer = timers.schedule(toastUntil + 1, clearToast, 0);
     }
 
 
@@ -3,6 +3,8 @@ package org.newdawn.spaceinvaders.screen;
 import java.awt.Graphics2D;
 import java.awt.event.KeyEvent;
 
+import org.newdawn.spaceinvaders.RenderSnapshot;
+
 public interface Screen {
 
     /** 매 프레임 호출되는 로직 (필요 없으면 구현 안 해도 됨) */
@@ -13,6 +15,45 @@ public interface Screen {
     /** 반드시 구현해야 하는 렌더링 */
     void render(Graphics2D g);
 
+    /**
+     * 고정 틱 루프에서 호출되는 보간 렌더링.
+     * @param alpha 직전 틱(0) ~ 현재 틱(1) 사이 보간 비율
+     * 보간이 필요 없는 화면은 오버라이드 안 해도 됨
+     */
+    default void render(Graphics2D g, double alpha) {
+        render(g);
+    }
+
+    /**
+     * 실제로 그릴 보간 비율. frameAlpha는 Game 누적기 기준(아직 update()로 넘기지 않은 실제 시간 / 틱).
+     * 자체 시계로 틱을 나누는 화면(일시정지/배속)은 그 시계 기준 값으로 바꿔 돌려준다.
+     */
+    default double renderAlpha(double frameAlpha) {
+        return frameAlpha;
+    }
+
+    /** 실제 시간 한 틱 동안 renderAlpha가 늘어나는 양 (파이프라인 모드 스냅샷 보간용, 멈춤이면 0) */
+    default double renderAlphaRate() {
+        return 1.0;
+    }
+
+    /**
+     * 파이프라인(시뮬레이션/렌더 분리) 모드에서 이 화면을 스냅샷으로 그리는지.
+     * true면 update()/writeSnapshot()은 시뮬레이션 스레드만 부르고 렌더 스레드는 스냅샷만 읽는다.
+     * false(메뉴 등 기본값)면 시뮬레이션 스레드는 이 화면을 건드리지 않고 렌더 스레드가 render()로 직접 그린다.
+     */
+    default boolean usesSnapshots() {
+        return false;
+    }
+
+    /**
+     * 파이프라인 모드에서 시뮬레이션 스레드가 틱마다 호출 (usesSnapshots()가 true인 화면만).
+     * 그릴 내용을 out에 기록했으면 true.
+     */
+    default boolean writeSnapshot(RenderSnapshot out) {
+        return false;
+    }
+
     /** 마우스 클릭 (필요 없으면 오버라이드 안 해도 됨) */
     default void onMouseClick(int mx, int my) {
         // 기본은 무시
@@ -0,0 +1,151 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.AlienEntity;
+import org.newdawn.spaceinvaders.entity.AlienFormation;
+import org.newdawn.spaceinvaders.entity.Entity;
+
+public class AlienFormationTest {
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    private static World worldWith(AlienFormation f, List<Entity> entities) {
+        World world = new World(null, entities, new ArrayList<>(), null);
+        world.setAlienFormation(f);
+        for (int i = 0; i < f.getRows() * f.getColumns(); i++) {
+            world.addEntity(f.getAlien(i));
+        }
+        return world;
+    }
+
+    @Test
+    public void columnBookkeepingFollowsKills() {
+        AlienFormation f = new AlienFormation(null, 5, 12, 100, 50, 50, 30, 1.0);
+        World world = worldWith(f, new ArrayList<>());
+
+        // 맨 왼쪽 열을 통째로, 3열은 맨 아래 두 줄만 제거
+        for (int r = 0; r < 5; r++) {
+            world.removeEntity(f.getAlien(r * 12));
+        }
+        world.removeEntity(f.getAlien(4 * 12 + 3));
+        world.removeEntity(f.getAlien(3 * 12 + 3));
+        world.removeEntity(f.getAlien(3 * 12 + 3));   // 중복 제거는 한 번만
+        world.flushRemovals();
+
+        assertEquals(53, f.getAliveCount());
+        assertEquals(53, world.countOf(Entity.KIND_ALIEN));
+        assertEquals(1, f.getLeftColumn());
+        assertEquals(11, f.getRightColumn());
+        assertEquals(-1, f.getBottomRow(0));
+        assertEquals(2, f.getBottomRow(3));
+        assertEquals(4, f.getBottomRow(4));
+
+        // 사수는 항상 자기 열의 맨 아래 외계인
+        Random rng = new Random(3);
+        for (int k = 0; k < 200; k++) {
+            AlienEntity a = f.randomShooter(rng);
+            assertEquals(f.getBottomRow(a.getFormationColumn()), a.getFormationRow());
+        }
+    }
+
+    @Test
+    public void gatherMatchesFullScan() {
+        AlienFormation f = new AlienFormation(null, 5, 12, 100, 50, 50, 30, 1.0);
+        World world = worldWith(f, new ArrayList<>());
+        Random r = new Random(11);
+        for (int k = 0; k < 20; k++) {
+            world.removeEntity(f.getAlien(r.nextInt(60)));
+        }
+        world.flushRemovals();
+
+        for (int q = 0; q < 500; q++) {
+            int minX = r.nextInt(800) - 50;
+            int minY = r.nextInt(300) - 50;
+            int maxX = minX + r.nextInt(60);
+            int maxY = minY + r.nextInt(60);
+
+            List<AlienEntity> expected = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                AlienEntity a = f.getAlien(i);
+                if (!f.isAlive(a.getFormationRow(), a.getFormationColumn())) continue;
+                if (a.getX() <= maxX && a.getX() + a.getWidth() - 1 >= minX
+                        && a.getY() <= maxY && a.getY() + a.getHeight() - 1 >= minY) {
+                    expected.add(a);
+                }
+            }
+            int n = f.gather(minX, minY, maxX, maxY);
+            List<AlienEntity> got = new ArrayList<>();
+            for (int k = 0; k < n; k++) {
+                AlienEntity a = f.getFound()[k];
+                if (a.getX() <= maxX && a.getX() + a.getWidth() - 1 >= minX
+                        && a.getY() <= maxY && a.getY() + a.getHeight() - 1 >= minY) {
+                    got.add(a);
+                }
+            }
+            // 후보는 넉넉해도 되지만, 실제로 겹치는 외계인은 빠지면 안 된다
+            assertEquals(expected, got);
+        }
+    }
+
+    /** 충돌 처리기 호출 순서를 이름으로 기록하는 일반 레이어 엔티티 */
+    private static class Probe extends Entity {
+        private final String name;
+        private final List<String> log;
+
+        Probe(String name, int x, int y, List<String> log) {
+            super("sprites/shot.gif", x, y);
+            this.name = name;
+            this.log = log;
+        }
+
+        @Override public void doLogic() { }
+
+        @Override
+        public void collidedWith(Entity other) {
+            String o = other instanceof Probe ? ((Probe) other).name
+                    : "A" + ((AlienEntity) other).getFormationRow() + "," + ((AlienEntity) other).getFormationColumn();
+            log.add(name + ">" + o);
+        }
+    }
+
+    /** 같은 배치를 편대 판정으로/격자만으로 돌려 처리기 호출 순서를 기록 */
+    private static List<String> contactLog(boolean useFormation) {
+        List<String> log = new ArrayList<>();
+        AlienFormation f = new AlienFormation(null, 5, 12, 100, 50, 50, 30, 1.0);
+        World world = new World(null, new ArrayList<>(), new ArrayList<>(), null);
+        if (useFormation) {
+            world.setAlienFormation(f);
+        }
+        // 탐침 절반은 외계인보다 앞 slot, 절반은 뒤 slot에 넣어 순서가 섞이게
+        Random r = new Random(5);
+        for (int k = 0; k < 40; k++) {
+            world.addEntity(new Probe("P" + k, 90 + r.nextInt(620), 40 + r.nextInt(180), log));
+        }
+        for (int i = 0; i < f.getRows() * f.getColumns(); i++) {
+            world.addEntity(f.getAlien(i));
+        }
+        for (int k = 40; k < 80; k++) {
+            world.addEntity(new Probe("P" + k, 90 + r.nextInt(620), 40 + r.nextInt(180), log));
+        }
+        world.handleCollisions();
+        return log;
+    }
+
+    @Test
+    public void formationContactsKeepPairOrder() {
+        List<String> expected = contactLog(false);
+        assertTrue(expected.size() > 40);
+        assertEquals(expected, contactLog(true));
+    }
+}
@@ -0,0 +1,41 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.junit.Test;
+
+public class CollisionMaskTest {
+
+    /** 왼쪽 위 → 오른쪽 아래 대각선만 불투명한 이미지 */
+    private static CollisionMask diagonal(int size) {
+        BufferedImage img = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (int i = 0; i < size; i++) {
+            img.setRGB(i, i, 0xffffffff);
+        }
+        return CollisionMask.fromImage(img);
+    }
+
+    @Test
+    public void transparentCornersDoNotCollide() {
+        CollisionMask a = diagonal(100);
+        // 사각형은 겹치지만 b의 대각선은 a의 오른쪽 위 투명 영역에만 걸침
+        assertFalse(CollisionMask.overlaps(a, 0, 0, 100, 100, a, 60, -60, 100, 100));
+        // 같은 자리면 대각선끼리 겹침
+        assertTrue(CollisionMask.overlaps(a, 0, 0, 100, 100, a, 0, 0, 100, 100));
+        // 64픽셀 경계를 넘는 위치에서도 단어 이어 붙이기가 맞는지
+        assertTrue(CollisionMask.overlaps(a, 0, 0, 100, 100, null, 70, 70, 3, 3));
+        assertFalse(CollisionMask.overlaps(a, 0, 0, 100, 100, null, 70, 80, 3, 3));
+    }
+
+    @Test
+    public void rotationFlipsPixels() {
+        CollisionMask a = diagonal(10);
+        CollisionMask r = a.rotated180();
+        assertTrue(r.isSet(0, 0));
+        assertTrue(r.isSet(9, 9));
+        assertFalse(r.isSet(9, 0));
+    }
+}
@@ -0,0 +1,60 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+
+public class EntityPoolTest {
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    @Test
+    public void releaseIgnoresInstancesAlreadyInPool() {
+        EntityPool<ShotEntity> pool = new EntityPool<>(() -> new ShotEntity(null, "sprites/shot.gif", 0, 0));
+        ShotEntity a = pool.acquire();
+        ShotEntity b = pool.acquire();
+        assertEquals(2, pool.getCreatedCount());
+
+        pool.release(a);
+        pool.release(a);
+        assertEquals(1, pool.getFreeCount());
+        assertSame(a, pool.acquire());
+        assertEquals(0, pool.getFreeCount());
+
+        // 비었으면 새로 만든다
+        assertNotSame(b, pool.acquire());
+        assertEquals(3, pool.getCreatedCount());
+    }
+
+    @Test
+    public void pooledShotIsReusedOnlyOnce() {
+        List<Entity> entities = new ArrayList<>();
+        World world = new World(null, entities, new ArrayList<>(), null);
+        ShotEntity first = world.spawnShot(100, 400);
+
+        // 두 번 제거 예약해도 풀에는 한 번만 돌아간다
+        world.removeEntity(first);
+        world.removeEntity(first);
+        world.flushRemovals();
+        assertEquals(0, entities.size());
+
+        ShotEntity again = world.spawnShot(200, 300);
+        ShotEntity fresh = world.spawnShot(300, 300);
+        assertSame(first, again);
+        assertNotSame(first, fresh);
+        assertEquals(200, again.getX());
+        assertEquals(300, again.getY());
+        assertEquals(2, world.countOf(Entity.KIND_SHOT));
+    }
+}
@@ -0,0 +1,50 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class FramePhasesTest {
+
+    @Test
+    public void phasesRunInRegistrationOrder() {
+        List<String> log = new ArrayList<>();
+        FramePhases p = new FramePhases();
+        p.add("a", () -> log.add("a"));
+        p.add("b", () -> log.add("b"));
+        p.add("c", () -> log.add("c"));
+
+        for (int k = 0; k < 50; k++) {
+            log.clear();
+            p.run();
+            assertEquals(Arrays.asList("a", "b", "c"), log);
+        }
+        assertEquals(50, p.getRunCount());
+        assertEquals("b", p.getPhaseName(1));
+        assertTrue(p.getTotalNanos(0) > 0);
+        assertTrue(p.getTotalNanos(0) >= p.getLastNanos(0));
+    }
+
+    @Test
+    public void failureStopsLaterPhases() {
+        final boolean[] ranAfter = new boolean[1];
+        FramePhases p = new FramePhases();
+        p.add("boom", () -> { throw new IllegalStateException("boom"); });
+        p.add("after", () -> ranAfter[0] = true);
+        try {
+            p.run();
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("boom", expected.getMessage());
+        }
+        assertFalse(ranAfter[0]);
+        assertEquals(0, p.getRunCount());
+    }
+}
@@ -0,0 +1,74 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+
+public class FrameScratchTest {
+
+    @Test
+    public void buffersAreDistinctWithinATickAndReusedAfterReset() {
+        FrameScratch s = new FrameScratch();
+        List<Entity> a = s.entities();
+        List<Entity> b = s.entities();
+        assertNotSame(a, b);
+        int[] x = s.ints(10);
+        int[] y = s.ints(100);
+        assertNotSame(x, y);
+        assertTrue(y.length >= 100);
+        a.add(null);
+
+        s.reset();
+        assertEquals(0, a.size());   // 돌려받을 때 비워 둔다
+        assertSame(a, s.entities());
+        assertSame(b, s.entities());
+        assertSame(x, s.ints(10));
+        assertSame(y, s.ints(50));
+
+        // 다음 틱에 같은 크기로 다시 꺼내면 새로 만들지 않는다
+        for (int tick = 0; tick < 10; tick++) {
+            s.reset();
+            s.entities();
+            s.ints(10);
+            s.ints(100);
+        }
+        assertEquals(2, s.getEntityListCount());
+        assertEquals(2, s.getIntBufferCount());
+    }
+
+    @Test
+    public void worldReclaimsBuffersWithoutFlush() {
+        SpriteStore.get().setHeadless(true);
+        World world = new World(null, new ArrayList<>(), new ArrayList<>(), null);
+        for (int i = 0; i < 20; i++) {
+            world.addEntity(new ShotEntity(null, "sprites/shot.gif", 40 * i, 300));
+        }
+        world.flushRemovals();
+
+        // flushRemovals 없이 이동/충돌/질의만 반복해도 버퍼 수는 그대로
+        for (int tick = 0; tick < 100; tick++) {
+            world.moveAll(8);
+            world.queryCircle(400, 300, 500, ~0, world.getScratch().entities());
+            world.handleCollisions();
+        }
+        FrameScratch s = world.getScratch();
+        int lists = s.getEntityListCount();
+        int ints = s.getIntBufferCount();
+        for (int tick = 0; tick < 100; tick++) {
+            world.handleCollisions();
+            world.moveAll(8);
+            world.queryCircle(400, 300, 500, ~0, world.getScratch().entities());
+        }
+        assertEquals(lists, s.getEntityListCount());
+        assertEquals(ints, s.getIntBufferCount());
+        assertTrue(ints <= 8);
+    }
+}
@@ -0,0 +1,99 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+
+import java.awt.event.KeyEvent;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.screen.PlayScreen;
+
+public class GameClockTest {
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    @Test
+    public void pauseScaleAndStep() {
+        GameClock c = new GameClock();
+        c.feed(8);
+        assertEquals(8, c.take(8));
+        assertEquals(0, c.take(8));
+
+        c.setTimeScale(0.5);
+        c.feed(8);                       // 4ms는 한 틱이 안 되므로 밀린 채로 남는다
+        assertEquals(0, c.take(8));
+        c.feed(8);
+        assertEquals(8, c.take(8));
+        assertEquals(16, c.now());
+
+        c.setPaused(true);
+        c.feed(100);
+        assertEquals(0, c.take(8));
+        c.step(8);                       // 멈춘 상태에서 한 틱 넘기기
+        assertEquals(8, c.take(8));
+        assertEquals(24, c.now());
+
+        c.setPaused(false);
+        c.setTimeScale(3);
+        c.feed(8);                       // 24ms → 8ms 틱 세 번
+        assertEquals(8, c.take(8));
+        assertEquals(8, c.take(8));
+        assertEquals(8, c.take(8));
+        assertEquals(0, c.take(8));
+
+        c.setTimeScale(1.5);
+        c.feed(8);                       // 12ms → 한 틱, 4ms는 다음으로
+        assertEquals(8, c.take(8));
+        assertEquals(0, c.take(8));
+        c.feed(8);                       // 4 + 12 = 16ms → 두 틱
+        assertEquals(8, c.take(8));
+        assertEquals(8, c.take(8));
+        assertEquals(0, c.take(8));
+    }
+
+    @Test
+    public void renderAlphaFollowsGameClock() {
+        PlayScreen screen = PlayScreen.createHeadless(1, 0, 0, 9L);
+        GameClock c = screen.getClock();
+
+        // 실시간: Game 누적기 비율 그대로
+        assertEquals(0.5, screen.renderAlpha(0.5), 1e-9);
+
+        // 0.25배속: 8ms 프레임 한 번은 2ms만 밀리므로 틱 없이 비율만 0.25씩 오른다
+        c.setTimeScale(0.25);
+        screen.update(Game.SIM_TICK_MS);
+        assertEquals(0.25, screen.renderAlpha(0.0), 1e-9);
+        screen.update(Game.SIM_TICK_MS);
+        assertEquals(0.5, screen.renderAlpha(0.0), 1e-9);
+        assertEquals(0.625, screen.renderAlpha(0.5), 1e-9);
+        assertEquals(0.25, screen.renderAlphaRate(), 1e-9);
+
+        // 일시정지 중에는 프레임 비율과 상관없이 마지막 틱 위치에 머문다
+        c.setPaused(true);
+        assertEquals(1.0, screen.renderAlpha(0.0), 1e-9);
+        assertEquals(1.0, screen.renderAlpha(0.7), 1e-9);
+        assertEquals(0.0, screen.renderAlphaRate(), 1e-9);
+    }
+
+    @Test
+    public void fastForwardMatchesRealTimeTicks() {
+        PlayScreen normal = PlayScreen.createHeadless(1, 0, 0, 9L);
+        PlayScreen fast   = PlayScreen.createHeadless(1, 0, 0, 9L);
+        normal.getInput().setKey(KeyEvent.VK_SPACE, true);
+        fast.getInput().setKey(KeyEvent.VK_SPACE, true);
+        fast.getClock().setTimeScale(50);
+
+        for (int i = 0; i < 50 * 40; i++) {
+            normal.update(Game.SIM_TICK_MS);
+        }
+        for (int i = 0; i < 40; i++) {
+            fast.update(Game.SIM_TICK_MS);
+        }
+        assertEquals(normal.getClock().now(), fast.getClock().now());
+        assertEquals(normal.getScore(), fast.getScore());
+        assertEquals(normal.getWorld().stateHash(), fast.getWorld().stateHash());
+    }
+}
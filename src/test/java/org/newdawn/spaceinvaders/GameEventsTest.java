@@ -0,0 +1,57 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class GameEventsTest {
+
+    @Test
+    public void consumersSeeTheirTypesInPublishOrder() {
+        GameEvents events = new GameEvents();
+        final List<String> log = new ArrayList<>();
+        events.subscribe(GameEvents.bit(GameEvents.KILL),
+                (type, x, y, ref) -> log.add("score " + x + "," + y));
+        events.subscribe(GameEvents.bit(GameEvents.HIT) | GameEvents.bit(GameEvents.PICKUP),
+                (type, x, y, ref) -> log.add("run " + type + ":" + x + ":" + ref));
+
+        events.kill(10, 20);
+        events.hit(7);
+        events.kill(30, 40);
+        events.pickup(9, 123L);
+        assertEquals(4, events.size());
+
+        assertEquals(4, events.dispatch());
+        assertEquals(0, events.size());
+        assertEquals("[score 10,20, score 30,40, run 1:7:0, run 2:9:123]", log.toString());
+        assertEquals(2, events.getPublishedCount(GameEvents.KILL));
+        assertEquals(0, events.dispatch());
+    }
+
+    @Test
+    public void eventsPublishedWhileDispatchingRunInTheSameDispatch() {
+        final GameEvents events = new GameEvents();
+        final List<Integer> kills = new ArrayList<>();
+        // 폭탄 줍기 → 광역 처치처럼 처리 중에 새 이벤트가 나오는 경우 (버퍼가 늘어나는 것까지)
+        events.subscribe(GameEvents.bit(GameEvents.PICKUP), (type, x, y, ref) -> {
+            for (int i = 0; i < 100; i++) {
+                events.kill(i, 0);
+            }
+        });
+        events.subscribe(GameEvents.bit(GameEvents.KILL), (type, x, y, ref) -> kills.add(x));
+
+        for (int i = 0; i < 50; i++) {
+            events.kill(-1, 0);
+        }
+        events.pickup(0, 1L);
+
+        assertEquals(151, events.dispatch());
+        assertEquals(150, kills.size());
+        assertEquals(Integer.valueOf(-1), kills.get(49));
+        assertEquals(Integer.valueOf(0), kills.get(50));
+        assertEquals(Integer.valueOf(99), kills.get(149));
+    }
+}
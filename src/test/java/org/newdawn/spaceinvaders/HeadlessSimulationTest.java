@@ -0,0 +1,66 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.newdawn.spaceinvaders.screen.PlayScreen;
+
+public class HeadlessSimulationTest {
+    @Test
+    public void runsWithoutDisplay() {
+        HeadlessSimulation.Result r = HeadlessSimulation.run(1, 0, 120_000);
+
+        assertTrue(r.ticks > 0);
+        assertTrue(r.finished || r.simulatedMs >= 120_000);
+        assertTrue(SpriteStore.get().isHeadless());
+    }
+
+    @Test
+    public void sameSeedReproducesRun() {
+        HeadlessSimulation.Result a = HeadlessSimulation.run(2, 1, 60_000, 42L);
+        HeadlessSimulation.Result b = HeadlessSimulation.run(2, 1, 60_000, 42L);
+        assertEquals(a.toString(), b.toString());
+        assertEquals(a.stateHash, b.stateHash);
+    }
+
+    @Test
+    public void forcedParallelCollisionsReproduceSerialRun() {
+        HeadlessSimulation.Result serial = HeadlessSimulation.run(2, 1, 60_000, 42L);
+        HeadlessSimulation.Result parallel = HeadlessSimulation.run(2, 1, 60_000, 42L, w -> {
+            w.setParallelNarrowPhase(true);
+            w.setParallelNarrowPhaseThreshold(0);
+        });
+        assertEquals(serial.toString(), parallel.toString());
+    }
+
+    @Test
+    public void forcedParallelMoveReproducesSerialRun() {
+        HeadlessSimulation.Result serial = HeadlessSimulation.run(2, 1, 60_000, 42L);
+        final World[] world = new World[1];
+        HeadlessSimulation.Result parallel = HeadlessSimulation.run(2, 1, 60_000, 42L, w -> {
+            w.setParallelMove(true);
+            w.setParallelMoveThreshold(0);
+            world[0] = w;
+        });
+        assertEquals(serial.toString(), parallel.toString());
+        assertTrue(world[0].getParallelMoveRuns() > 0);
+    }
+
+    @Test
+    public void framePhasesKeepTickOrder() {
+        PlayScreen screen = PlayScreen.createHeadless(1, 0, 0, 1L);
+        FramePhases p = screen.getFramePhases();
+        int hud = -1, flush = -1, move = -1, winCheck = -1;
+        for (int i = 0; i < p.getPhaseCount(); i++) {
+            String name = p.getPhaseName(i);
+            if ("hud".equals(name)) hud = i;
+            if ("flush".equals(name)) flush = i;
+            if ("move".equals(name)) move = i;
+            if ("winCheck".equals(name)) winCheck = i;
+        }
+        // HUD는 보스 엔티티를 읽으므로 제거 반영보다 먼저, 승패 확인은 빔 점수가 정해진 뒤
+        assertTrue(hud >= 0 && hud < flush);
+        assertTrue(move >= 0 && move < winCheck);
+    }
+}
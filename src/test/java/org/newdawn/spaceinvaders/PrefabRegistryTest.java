@@ -0,0 +1,47 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.AlienEntity;
+import org.newdawn.spaceinvaders.entity.AlienFormation;
+import org.newdawn.spaceinvaders.entity.Prefab;
+import org.newdawn.spaceinvaders.entity.PrefabRegistry;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+
+public class PrefabRegistryTest {
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    @Test
+    public void levelPrefabsCarryResolvedSpritesAndVelocities() {
+        PrefabRegistry l1 = PrefabRegistry.forLevel(1, "sprites/ship2.png");
+        PrefabRegistry l5 = PrefabRegistry.forLevel(5, PrefabRegistry.DEFAULT_SHIP_SPRITE);
+
+        Prefab alien = l1.get(PrefabRegistry.ALIEN);
+        assertEquals(-75 * LevelConfig.forLevel(1).alienSpeedMultiplier, alien.dx, 0.0);
+        assertEquals(-75 * LevelConfig.forLevel(5).alienSpeedMultiplier, l5.get(PrefabRegistry.ALIEN).dx, 0.0);
+        assertEquals(4, alien.getFrameCount());
+        assertSame(alien.sprite, alien.getFrame(2));
+        assertSame(SpriteStore.get().getSprite("sprites/ship2.png"), l1.get(PrefabRegistry.SHIP).sprite);
+
+        // 원형에서 만든 엔티티는 스프라이트/속도를 그대로 복사한다
+        Prefab shotPrefab = l1.get(PrefabRegistry.SHOT);
+        ShotEntity shot = new ShotEntity(null, shotPrefab, 10, 20);
+        ShotEntity legacy = new ShotEntity(null, "sprites/shot.gif", 10, 20);
+        assertEquals(legacy.getVerticalMovement(), shot.getVerticalMovement(), 0.0);
+        assertEquals(shotPrefab.width, shot.getWidth());
+        assertEquals(legacy.getHeight(), shot.getHeight());
+
+        // 편대는 원형의 속도와 최대 프레임 크기를 쓴다
+        AlienFormation f = new AlienFormation(null, alien, 2, 3, 100, 50, 50, 30);
+        assertEquals(alien.dx, f.getVelocityX(), 0.0);
+        AlienEntity a = f.getAlien(0);
+        assertEquals(alien.dx, a.getHorizontalMovement(), 0.0);
+    }
+}
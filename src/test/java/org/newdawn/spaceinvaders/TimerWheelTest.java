@@ -0,0 +1,99 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TimerWheelTest {
+
+    @Test
+    public void firesAtExactMsAcrossLevels() {
+        TimerWheel w = new TimerWheel(5);
+        final List<long[]> fired = new ArrayList<>();
+        final long[] now = new long[1];
+        TimerWheel.Action record = arg -> fired.add(new long[] { arg, now[0] });
+
+        long[] delays = { 1, 63, 64, 65, 4095, 4096, 4097, 300000, 20000000L };
+        for (long d : delays) {
+            w.schedule(5 + d, record, d);
+        }
+        w.schedule(5 + 64, record, -64);   // 같은 ms는 예약 순서대로
+        assertEquals(delays.length + 1, w.size());
+
+        // 틱 단위로 진행하며 각 타이머가 정확히 만기 ms에 실행되는지 확인
+        for (long t = 5; t <= 400005; t++) {
+            now[0] = t;
+            w.advanceTo(t);
+        }
+        // 범위(약 4.6시간)를 넘는 예약은 맨 윗단 끝에서 다시 내려와 제때 실행된다
+        now[0] = 5 + 20000000L;
+        w.advanceTo(now[0] - 1);
+        assertEquals(1, w.size());
+        w.advanceTo(now[0]);
+        assertEquals(0, w.size());
+        assertEquals(delays.length + 1, fired.size());
+        int i = 0;
+        for (long d : delays) {
+            assertEquals(d, fired.get(i)[0]);
+            assertEquals(5 + d, fired.get(i)[1]);
+            if (d == 64) {
+                i++;
+                assertEquals(-64, fired.get(i)[0]);
+            }
+            i++;
+        }
+    }
+
+    @Test
+    public void cancelAndStaleHandles() {
+        TimerWheel w = new TimerWheel(0);
+        final int[] count = new int[1];
+        TimerWheel.Action inc = arg -> count[0] += (int) arg;
+
+        long a = w.schedule(10, inc, 1);
+        long b = w.schedule(10, inc, 10);
+        assertTrue(w.cancel(a));
+        assertFalse(w.cancel(a));
+        assertFalse(w.cancel(TimerWheel.NO_TIMER));
+        w.advanceTo(20);
+        assertEquals(10, count[0]);
+
+        // 실행된 핸들로 취소해도, 그 노드를 재사용한 새 타이머는 그대로
+        long c = w.schedule(30, inc, 100);
+        assertFalse(w.cancel(b));
+        assertFalse(w.cancel(a));
+        w.advanceTo(30);
+        assertEquals(110, count[0]);
+        assertFalse(w.cancel(c));
+    }
+
+    @Test
+    public void callbackCanRescheduleAndPastDueRunsNextMs() {
+        final TimerWheel w = new TimerWheel(0);
+        final List<Long> at = new ArrayList<>();
+        final int[] periods = new int[1];
+        TimerWheel.Action periodic = new TimerWheel.Action() {
+            @Override public void fire(long arg) {
+                at.add(w.getCurrentTime());
+                if (++periods[0] < 4) {
+                    w.schedule(w.getCurrentTime() + arg, this, arg);
+                }
+            }
+        };
+        w.schedule(100, periodic, 100);
+        // 이미 지난 시각이나 지금 시각으로 예약해도 다음 ms에 실행된다
+        w.schedule(-5, arg -> at.add(-w.getCurrentTime()), 0);
+
+        w.advanceTo(1000);
+        assertEquals(5, at.size());
+        assertEquals(Long.valueOf(-1), at.get(0));
+        assertEquals(Long.valueOf(100), at.get(1));
+        assertEquals(Long.valueOf(400), at.get(4));
+        assertEquals(1000, w.getCurrentTime());
+    }
+}
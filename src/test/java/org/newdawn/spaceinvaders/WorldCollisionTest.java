@@ -0,0 +1,247 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.AlienEntity;
+import org.newdawn.spaceinvaders.entity.AlienShotEntity;
+import org.newdawn.spaceinvaders.entity.AlienEntity;
+import org.newdawn.spaceinvaders.entity.AlienShotEntity;
+import org.newdawn.spaceinvaders.entity.CollisionMatrix;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+
+public class WorldCollisionTest {
+
+    /** collidedWith 호출 순서를 기록하는 테스트용 엔티티 */
+    private static class Probe extends Entity {
+        private final int id;
+        private final List<String> log;
+        boolean fast = false;
+
+        Probe(int id, String ref, int x, int y, List<String> log) {
+            super(ref, x, y);
+            this.id = id;
+            this.log = log;
+        }
+
+        @Override public void doLogic() { }
+
+        @Override public boolean isFastMover() { return fast; }
+
+        @Override
+        public void collidedWith(Entity other) {
+            log.add(id + "->" + ((Probe) other).id);
+        }
+    }
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    private static List<String> run(long seed, boolean spatial) {
+        return run(seed, spatial, false, 300);
+    }
+
+    private static List<String> run(long seed, boolean spatial, boolean parallel, int count) {
+        List<String> log = new ArrayList<>();
+        List<Entity> entities = new ArrayList<>();
+        Random r = new Random(seed);
+        String[] refs = { "sprites/shot.gif", "sprites/alien.gif", "sprites/ship.gif", "sprites/Boss.png" };
+        for (int i = 0; i < count; i++) {
+            // 화면 밖 좌표도 섞어서 가장자리 셀 처리 확인
+            int x = r.nextInt(1000) - 100;
+            int y = r.nextInt(800) - 100;
+            entities.add(new Probe(i, refs[r.nextInt(refs.length)], x, y, log));
+        }
+        World world = new World(null, entities, new ArrayList<>(), null);
+        world.setSpatialBroadPhase(spatial);
+        world.setParallelNarrowPhase(parallel);
+        world.handleCollisions();
+        return log;
+    }
+
+    @Test
+    public void broadPhaseMatchesBruteForceOrder() {
+        for (long seed = 1; seed <= 5; seed++) {
+            List<String> brute = run(seed, false);
+            List<String> grid  = run(seed, true);
+            assertFalse(brute.isEmpty());
+            assertEquals(brute, grid);
+        }
+    }
+
+    @Test
+    public void layerMatrixFiltersNonReactingPairs() {
+        assertFalse(CollisionMatrix.canInteract(Entity.LAYER_ALIEN, Entity.LAYER_ALIEN));
+        assertFalse(CollisionMatrix.canInteract(Entity.LAYER_ALIEN_SHOT, Entity.LAYER_PLAYER_SHOT));
+        assertFalse(CollisionMatrix.canInteract(Entity.LAYER_NONE, Entity.LAYER_GENERIC));
+        assertTrue(CollisionMatrix.canInteract(Entity.LAYER_SHIP, Entity.LAYER_ALIEN_SHOT));
+        assertTrue(CollisionMatrix.canInteract(Entity.LAYER_ALIEN, Entity.LAYER_PLAYER_SHOT));
+        assertTrue(CollisionMatrix.canInteract(Entity.LAYER_PLAYER_BOMB, Entity.LAYER_ASTEROID));
+        assertTrue(CollisionMatrix.canInteract(Entity.LAYER_GENERIC, Entity.LAYER_ALIEN));
+    }
+
+    @Test
+    public void parallelNarrowPhaseMatchesSerialOrder() {
+        // 후보 쌍이 병렬 기준(1024)을 넘도록 촘촘하게 배치
+        for (long seed = 1; seed <= 3; seed++) {
+            List<String> serial   = run(seed, true, false, 3000);
+            List<String> parallel = run(seed, true, true, 3000);
+            assertFalse(serial.isEmpty());
+            assertEquals(serial, parallel);
+        }
+    }
+
+    /**
+     * 총알/외계인/배 크기 탐침을 slot마다 번갈아 넣은 띠 배치. 한 엔티티의 상대가 여러 조각에 걸치고,
+     * 앞 slot 처리로 뒤 쌍이 바뀌는지(제거)는 탐침이 기록만 하므로 순서만 비교된다.
+     */
+    private static List<String> interleaved(long seed, boolean parallel, World[] out) {
+        List<String> log = new ArrayList<>();
+        List<Entity> entities = new ArrayList<>();
+        Random r = new Random(seed);
+        String[] refs = { "sprites/shot.gif", "sprites/alien.gif", "sprites/ship.gif" };
+        for (int i = 0; i < 900; i++) {
+            int x = r.nextInt(780);
+            int y = 250 + r.nextInt(120);
+            entities.add(new Probe(i, refs[i % refs.length], x, y, log));
+        }
+        World world = new World(null, entities, new ArrayList<>(), null);
+        world.setParallelNarrowPhase(parallel);
+        world.setParallelNarrowPhaseThreshold(0);   // 쌍 수와 상관없이 병렬 경로
+        world.handleCollisions();
+        out[0] = world;
+        return log;
+    }
+
+    @Test
+    public void forcedParallelNarrowPhaseMatchesSerialOnInterleavedLayout() {
+        World[] w = new World[1];
+        for (long seed = 1; seed <= 3; seed++) {
+            List<String> serial = interleaved(seed, false, w);
+            assertEquals(0, w[0].getParallelNarrowPhaseRuns());
+            List<String> parallel = interleaved(seed, true, w);
+            assertEquals(1, w[0].getParallelNarrowPhaseRuns());
+            // 조각(256쌍) 여러 개에 걸칠 만큼 맞닿은 쌍이 있어야 병합 순서가 검증된다
+            assertTrue(serial.size() > 2 * 512);
+            assertEquals(serial, parallel);
+        }
+    }
+
+    /** 한 틱에 상대 높이보다 멀리 움직여 도착 위치로는 겹치지 않는 경우 */
+    private static List<String> tunnel(boolean fast) {
+        List<String> log = new ArrayList<>();
+        List<Entity> entities = new ArrayList<>();
+        Probe shot = new Probe(0, "sprites/shot.gif", 300, 0, log);
+        Probe ship = new Probe(1, "sprites/ship.gif", 290, 100, log);
+        shot.fast = fast;
+        shot.setVerticalMovement(5000);
+        entities.add(shot);
+        entities.add(ship);
+        World world = new World(null, entities, new ArrayList<>(), null);
+        world.moveAll(40);   // 200px 이동 → 배(y=100)를 건너뜀
+        world.handleCollisions();
+        return log;
+    }
+
+    @Test
+    public void fastMoverDoesNotTunnel() {
+        assertTrue(tunnel(false).isEmpty());
+        assertEquals(2, tunnel(true).size());
+    }
+
+    /** removeEntity/requestLogicUpdate만 World로 넘기고 나머지는 기본값을 돌려주는 컨텍스트 (이벤트는 쌓기만) */
+    private static GameContext worldContext(World[] world) {
+        GameEvents events = new GameEvents();
+        return (GameContext) Proxy.newProxyInstance(GameContext.class.getClassLoader(),
+                new Class<?>[] { GameContext.class }, (proxy, m, args) -> {
+                    if (m.getName().equals("removeEntity")) world[0].removeEntity((Entity) args[0]);
+                    if (m.getName().equals("requestLogicUpdate")) world[0].requestLogicUpdate();
+                    if (m.getName().equals("getEvents")) return events;
+                    Class<?> t = m.getReturnType();
+                    if (t == boolean.class) return false;
+                    if (t == int.class) return 0;
+                    if (t == long.class) return 0L;
+                    if (t == float.class) return 0f;
+                    return null;
+                });
+    }
+
+    /** LEAF_SIZE보다 많은 외계인(가장자리 도달 → 로직 요청)과, 이동 중 스스로 제거 예약하는 유성 */
+    private static List<String> simulateMoves(long seed, boolean parallel, World[] world) {
+        GameContext ctx = worldContext(world);
+        List<Entity> entities = new ArrayList<>();
+        Random r = new Random(seed);
+        for (int i = 0; i < 3 * ParallelMovePhase.LEAF_SIZE; i++) {
+            // 왼쪽으로 75px/s: x < 58이면 40틱 안에 가장자리(10px)에 닿는다
+            entities.add(new AlienEntity(ctx, r.nextInt(800), r.nextInt(300)));
+        }
+        for (int i = 0; i < 1500; i++) {
+            entities.add(new ShotEntity(ctx, "sprites/shot.gif", r.nextInt(800), r.nextInt(700) - 100));
+            AlienShotEntity s = new AlienShotEntity(ctx, "sprites/shot.gif", r.nextInt(800), r.nextInt(700));
+            s.setHorizontalMovement(r.nextInt(160) - 80);
+            entities.add(s);
+        }
+        for (int i = 0; i < 2 * ParallelMovePhase.LEAF_SIZE; i++) {
+            Entity rock = new Entity("sprites/shot.gif", r.nextInt(800), r.nextInt(600)) {
+                @Override public void doLogic() { }
+                @Override public void collidedWith(Entity other) { }
+                @Override public int getKind() { return KIND_ASTEROID; }
+                @Override public void move(long delta) {
+                    super.move(delta);
+                    if (getY() > 560) world[0].removeEntity(this);
+                }
+            };
+            rock.setVerticalMovement(r.nextInt(200));
+            entities.add(rock);
+        }
+        world[0] = new World(ctx, entities, new ArrayList<>(), null);
+        world[0].setParallelMove(parallel);
+        world[0].setParallelMoveThreshold(0);
+
+        List<String> log = new ArrayList<>();
+        for (int t = 0; t < 40; t++) {
+            world[0].moveAll(16);
+            world[0].applyLogicIfNeeded();
+            world[0].flushRemovals();
+            // 제거는 모두 목록 뒤쪽 유성이라 0번은 늘 같은 외계인
+            log.add("size=" + entities.size() + " dx0=" + entities.get(0).getHorizontalMovement());
+        }
+        for (Entity e : entities) {
+            log.add(e.getKind() + ":" + e.getExactX() + "," + e.getExactY() + "," + e.getHorizontalMovement());
+        }
+        return log;
+    }
+
+    @Test
+    public void parallelMoveMatchesSerialMove() {
+        for (long seed = 1; seed <= 3; seed++) {
+            World[] world = new World[1];
+            List<String> serial = simulateMoves(seed, false, world);
+            assertEquals(0, world[0].getParallelMoveRuns());
+            assertEquals(serial, simulateMoves(seed, true, world));
+            assertTrue(world[0].getParallelMoveRuns() > 0);
+            // 가장자리 로직(방향 전환)과 이동 중 제거 예약이 실제로 일어났는지
+            boolean reversed = false;
+            int rocks = 0;
+            for (String line : serial) {
+                reversed |= line.endsWith(" dx0=75.0");
+                if (line.startsWith(Entity.KIND_ASTEROID + ":")) rocks++;
+            }
+            assertTrue(reversed);
+            assertTrue(rocks < 2 * ParallelMovePhase.LEAF_SIZE);
+        }
+    }
+}
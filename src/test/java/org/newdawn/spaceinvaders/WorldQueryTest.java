@@ -0,0 +1,219 @@
+package org.newdawn.spaceinvaders;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.newdawn.spaceinvaders.entity.AlienEntity;
+import org.newdawn.spaceinvaders.entity.CullPolicy;
+import org.newdawn.spaceinvaders.entity.Entity;
+import org.newdawn.spaceinvaders.entity.ShotEntity;
+
+public class WorldQueryTest {
+
+    @BeforeClass
+    public static void headless() {
+        SpriteStore.get().setHeadless(true);
+    }
+
+    @Test
+    public void circleAndStripMatchFullScan() {
+        Random r = new Random(7);
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            entities.add(new AlienEntity(null, r.nextInt(900) - 50, r.nextInt(700) - 50));
+        }
+        World world = new World(null, entities, new ArrayList<>(), null);
+        List<Entity> out = new ArrayList<>();
+        int aliens = Entity.kindBit(Entity.KIND_ALIEN);
+
+        for (int q = 0; q < 50; q++) {
+            int cx = r.nextInt(800);
+            int cy = r.nextInt(600);
+            int radius = 20 + r.nextInt(200);
+
+            List<Entity> expected = new ArrayList<>();
+            for (Entity e : entities) {
+                double dx = e.getX() + e.getWidth() / 2.0 - cx;
+                double dy = e.getY() + e.getHeight() / 2.0 - cy;
+                if (dx * dx + dy * dy <= (double) radius * radius) expected.add(e);
+            }
+            world.queryCircle(cx, cy, radius, aliens, out);
+            assertEquals(expected, out);
+
+            expected.clear();
+            for (Entity e : entities) {
+                int ex = e.getX() + e.getWidth() / 2;
+                if (ex >= cx - 10 && ex <= cx + 10) expected.add(e);
+            }
+            world.queryVerticalStrip(cx - 10, cx + 10, aliens, out);
+            assertEquals(expected, out);
+        }
+
+        // 다른 종류만 찾으면 아무것도 없음
+        assertEquals(0, world.queryCircle(400, 300, 1000, Entity.kindBit(Entity.KIND_BOSS), out));
+    }
+
+    @Test
+    public void indexFollowsMovesAndSwapRemovals() {
+        Random r = new Random(11);
+        List<Entity> entities = new ArrayList<>();
+        World world = new World(null, entities, new ArrayList<>(), null);
+        for (int i = 0; i < 200; i++) {
+            Entity a = new Entity("sprites/alien.gif", r.nextInt(800), r.nextInt(600)) {
+                @Override public void doLogic() { }
+                @Override public void collidedWith(Entity other) { }
+                @Override public int getKind() { return KIND_ALIEN; }
+            };
+            a.setHorizontalMovement(r.nextInt(600) - 300);
+            a.setVerticalMovement(r.nextInt(600) - 300);
+            world.addEntity(a);
+        }
+        List<Entity> out = new ArrayList<>();
+        List<Entity> expected = new ArrayList<>();
+        int aliens = Entity.kindBit(Entity.KIND_ALIEN);
+
+        // 색인은 처음 한 번만 만들고, 이후에는 이동/제거(마지막 항목을 빈자리로)를 따라 고쳐진다
+        for (int t = 0; t < 30; t++) {
+            world.moveAll(16);
+            for (int k = 0; k < 3 && !entities.isEmpty(); k++) {
+                world.removeEntity(entities.get(r.nextInt(entities.size())));
+            }
+            world.flushRemovals();
+
+            int cx = r.nextInt(800);
+            int cy = r.nextInt(600);
+            int radius = 40 + r.nextInt(150);
+            expected.clear();
+            for (Entity e : entities) {
+                double dx = e.getX() + e.getWidth() / 2.0 - cx;
+                double dy = e.getY() + e.getHeight() / 2.0 - cy;
+                if (dx * dx + dy * dy <= (double) radius * radius) expected.add(e);
+            }
+            world.queryCircle(cx, cy, radius, aliens, out);
+            assertEquals(expected, out);
+        }
+    }
+
+    @Test
+    public void kindCountsFollowAddsAndRemovals() {
+        List<Entity> entities = new ArrayList<>();
+        List<Entity> removeList = new ArrayList<>();
+        World world = new World(null, entities, removeList, null);
+        List<Entity> aliens = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Entity a = new AlienEntity(null, i * 40, 100);
+            aliens.add(a);
+            world.addEntity(a);
+        }
+        assertEquals(10, world.countOf(Entity.KIND_ALIEN));
+
+        // 같은 엔티티를 두 번 제거 예약해도 한 번만 빠진다
+        world.removeEntity(aliens.get(3));
+        world.removeEntity(aliens.get(3));
+        world.removeEntity(aliens.get(0));
+        assertEquals(10, world.countOf(Entity.KIND_ALIEN));   // flush 전까지는 그대로
+        world.flushRemovals();
+        assertEquals(8, world.countOf(Entity.KIND_ALIEN));
+        assertEquals(8, entities.size());
+
+        for (int i = 0; i < world.countOf(Entity.KIND_ALIEN); i++) {
+            Entity e = world.getOfKind(Entity.KIND_ALIEN, i);
+            assertEquals(i, e.getIndexSlot());
+            assertEquals(true, entities.contains(e));
+        }
+        assertEquals(null, world.firstOf(Entity.KIND_SHIP));
+    }
+
+    @Test
+    public void staleHandlesAndDeferredSpawns() {
+        List<Entity> entities = new ArrayList<>();
+        final World world = new World(null, entities, new ArrayList<>(), null);
+        for (int i = 0; i < 4; i++) {
+            world.addEntity(new AlienEntity(null, 300 + i * 40, 100));
+        }
+        // 이동 중에 총알을 쏘는 엔티티: 추가는 틱 끝까지 미뤄진다
+        Entity shooter = new Entity("sprites/shot.gif", 0, 0) {
+            @Override public void doLogic() { }
+            @Override public void collidedWith(Entity other) { }
+            @Override public void move(long delta) {
+                super.move(delta);
+                world.spawnShot(10, 500);
+            }
+        };
+        world.addEntity(shooter);
+        world.moveAll(8);
+        assertEquals(5, entities.size());
+        assertEquals(0, world.countOf(Entity.KIND_SHOT));
+        world.flushRemovals();
+        assertEquals(6, entities.size());
+        ShotEntity shot = (ShotEntity) world.firstOf(Entity.KIND_SHOT);
+        long handle = world.handleOf(shot);
+        assertSame(shot, world.resolve(handle));
+
+        // 제거는 마지막 항목을 빈자리로 옮긴다
+        Entity second = entities.get(1);
+        world.removeEntity(second);
+        world.removeEntity(shot);
+        world.flushRemovals();
+        assertEquals(4, entities.size());
+        assertSame(shooter, entities.get(1));
+        assertNull(world.resolve(handle));
+        assertNull(world.resolve(world.handleOf(second)));
+
+        // 풀에서 같은 인스턴스가 다시 나와도 옛 핸들은 살아나지 않는다
+        ShotEntity reused = world.spawnShot(50, 50);
+        assertSame(shot, reused);
+        assertNull(world.resolve(handle));
+        assertSame(reused, world.resolve(world.handleOf(reused)));
+        // 재사용 전에 잡아 둔 옛 핸들로 지워도 새로 들어온 엔티티는 남는다
+        assertFalse(world.removeEntity(handle));
+        world.flushRemovals();
+        assertEquals(5, entities.size());
+        assertSame(reused, world.resolve(world.handleOf(reused)));
+        assertTrue(entities.contains(reused));
+        // 지금 핸들로는 지워진다
+        assertTrue(world.removeEntity(world.handleOf(reused)));
+        world.flushRemovals();
+        assertEquals(4, entities.size());
+    }
+
+    @Test
+    public void cullPassRemovesOffscreenAfterGrace() {
+        List<Entity> entities = new ArrayList<>();
+        World world = new World(null, entities, new ArrayList<>(), null);
+        final CullPolicy policy = new CullPolicy(0, 0, 800, 600, 100, 0);
+        Entity drifter = new Entity("sprites/shot.gif", -10, 300) {
+            @Override public void doLogic() { }
+            @Override public void collidedWith(Entity other) { }
+            @Override public CullPolicy getCullPolicy() { return policy; }
+        };
+        GameClock clock = world.getClock();
+        clock.advance(1000);
+        world.addEntity(drifter);
+        ShotEntity shot = world.spawnShot(100, -99);   // 위로 -300px/s → 이번 틱에 -100 밖
+
+        world.moveAll(16);
+        assertTrue(shot.isRemoved());
+        assertEquals(false, drifter.isRemoved());   // 유예 시간 시작
+        world.flushRemovals();
+        assertEquals(1, entities.size());
+
+        clock.advance(50);
+        world.moveAll(0);
+        assertEquals(false, drifter.isRemoved());
+        clock.advance(60);
+        world.moveAll(0);
+        assertTrue(drifter.isRemoved());
+        world.flushRemovals();
+        assertEquals(0, entities.size());
+    }
+}